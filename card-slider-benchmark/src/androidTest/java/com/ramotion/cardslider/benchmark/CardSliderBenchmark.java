@@ -0,0 +1,189 @@
+package com.ramotion.cardslider.benchmark;
+
+import android.content.Context;
+
+import com.ramotion.cardslider.CardGeometry;
+import com.ramotion.cardslider.CardSliderFixture;
+import com.ramotion.cardslider.CardSliderLayoutManager;
+import com.ramotion.cardslider.CardSnapHelper;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.InstrumentationRegistry;
+
+import static com.ramotion.cardslider.CardSliderFixture.runOnMainSync;
+
+/**
+ * Benchmarks of card-slider hot paths.
+ * Every benchmark runs on the main thread against a RecyclerView which is measured and laid out
+ * manually, so results do not depend on vsync or on the rest of the view hierarchy.
+ */
+@RunWith(Parameterized.class)
+public class CardSliderBenchmark {
+
+    private static final int SCROLL_STEP = 23;
+    private static final int FRAMES_PER_DIRECTION = 60;
+    private static final int FLING_VELOCITY = 4000;
+
+    @Rule
+    public BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+    @Parameterized.Parameter
+    public int itemCount;
+
+    // Consumes computed values of benchmarks
+    private volatile float sink;
+
+    private CardSliderFixture fixture;
+    private RecyclerView recyclerView;
+    private CardSliderLayoutManager layoutManager;
+
+    @Parameterized.Parameters(name = "items={0}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][] {{5}, {1000}, {1000000}});
+    }
+
+    @Before
+    public void setUp() {
+        final Context context = InstrumentationRegistry.getTargetContext();
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                fixture = new CardSliderFixture(context, itemCount);
+                recyclerView = fixture.recyclerView;
+                layoutManager = fixture.layoutManager;
+                fixture.layout();
+
+                // Move off the first card, so scrolling both directions is possible
+                recyclerView.scrollToPosition(itemCount / 2);
+                fixture.layout();
+            }
+        });
+    }
+
+    @Test
+    public void scrollHorizontallyBy() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                final BenchmarkState state = benchmarkRule.getState();
+                int frame = 0;
+                while (state.keepRunning()) {
+                    final boolean forward = (frame++ / FRAMES_PER_DIRECTION) % 2 == 0;
+                    recyclerView.scrollBy(forward ? SCROLL_STEP : -SCROLL_STEP, 0);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void onLayoutChildren() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                final BenchmarkState state = benchmarkRule.getState();
+                while (state.keepRunning()) {
+                    recyclerView.requestLayout();
+                    fixture.layout();
+                }
+            }
+        });
+    }
+
+    @Test
+    public void getActiveCardPosition() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                // Scrolling resets requested position, so active position is resolved from the anchor
+                recyclerView.scrollBy(SCROLL_STEP, 0);
+
+                final BenchmarkState state = benchmarkRule.getState();
+                while (state.keepRunning()) {
+                    sink = layoutManager.getActiveCardPosition();
+                }
+            }
+        });
+    }
+
+    /**
+     * Per-frame card update: view updater batch and commit of all transform properties.
+     */
+    @Test
+    public void updateCards() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                final BenchmarkState state = benchmarkRule.getState();
+                while (state.keepRunning()) {
+                    fixture.updateCards(true);
+                }
+            }
+        });
+    }
+
+    /**
+     * Per-frame card update, when card transforms are unchanged and every commit is skipped.
+     */
+    @Test
+    public void updateCardsUnchanged() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                final BenchmarkState state = benchmarkRule.getState();
+                while (state.keepRunning()) {
+                    fixture.updateCards(false);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void geometry() {
+        final CardGeometry geometry = layoutManager.getGeometry();
+        final int activeCardLeft = geometry.getActiveCardLeft();
+        final int cardWidth = geometry.getCardWidth();
+
+        final BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            float sum = 0;
+            for (int viewLeft = 0; viewLeft < activeCardLeft + cardWidth * 2; viewLeft += SCROLL_STEP) {
+                sum += geometry.getScale(viewLeft);
+                sum += geometry.getAlpha(viewLeft);
+                sum += geometry.getZ(viewLeft);
+                sum += geometry.getTranslationX(viewLeft);
+            }
+            // Results are consumed, so the loop is not eliminated
+            sink = sum;
+        }
+    }
+
+    @Test
+    public void findTargetSnapPosition() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                final CardSnapHelper snapHelper = new CardSnapHelper();
+                snapHelper.attachToRecyclerView(recyclerView);
+
+                final BenchmarkState state = benchmarkRule.getState();
+                int frame = 0;
+                while (state.keepRunning()) {
+                    final int velocity = (frame++ & 1) == 0 ? FLING_VELOCITY : -FLING_VELOCITY;
+                    sink = snapHelper.findTargetSnapPosition(layoutManager, velocity, 0);
+                }
+            }
+        });
+    }
+
+}
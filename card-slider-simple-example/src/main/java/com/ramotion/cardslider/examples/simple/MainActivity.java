@@ -26,6 +26,7 @@ import android.widget.TextSwitcher;
 import android.widget.TextView;
 import android.widget.ViewSwitcher;
 
+import com.ramotion.cardslider.CardItemAnimator;
 import com.ramotion.cardslider.CardSliderLayoutManager;
 import com.ramotion.cardslider.CardSnapHelper;
 import com.ramotion.cardslider.examples.simple.cards.SliderAdapter;
@@ -80,6 +81,7 @@ public class MainActivity extends AppCompatActivity {
         recyclerView = (RecyclerView) findViewById(R.id.recycler_view);
         recyclerView.setAdapter(sliderAdapter);
         recyclerView.setHasFixedSize(true);
+        recyclerView.setItemAnimator(new CardItemAnimator());
 
         recyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
             @Override
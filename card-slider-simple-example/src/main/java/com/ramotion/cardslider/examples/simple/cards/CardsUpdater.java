@@ -4,7 +4,6 @@ import android.os.Build;
 
 import androidx.annotation.NonNull;
 import androidx.cardview.widget.CardView;
-import androidx.core.view.ViewCompat;
 import android.view.View;
 
 import com.ramotion.cardslider.CardSliderLayoutManager;
@@ -12,23 +11,16 @@ import com.ramotion.cardslider.DefaultViewUpdater;
 
 public class CardsUpdater extends DefaultViewUpdater {
 
+    public CardsUpdater() {
+        // Cards dim themselves by the white overlay, see SliderCard
+        setDimMode(DIM_MODE_OVERLAY);
+    }
+
     @Override
     public void updateView(@NonNull View view, float position) {
         super.updateView(view, position);
 
         final CardView card = ((CardView)view);
-        final View alphaView = card.getChildAt(1);
-        final View imageView = card.getChildAt(0);
-
-        if (position < 0) {
-            final float alpha = ViewCompat.getAlpha(view);
-            ViewCompat.setAlpha(view, 1f);
-            ViewCompat.setAlpha(alphaView, 0.9f - alpha);
-            ViewCompat.setAlpha(imageView, 0.3f + alpha);
-        } else {
-            ViewCompat.setAlpha(alphaView, 0f);
-            ViewCompat.setAlpha(imageView, 1f);
-        }
 
         if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
             final CardSliderLayoutManager lm =  getLayoutManager();
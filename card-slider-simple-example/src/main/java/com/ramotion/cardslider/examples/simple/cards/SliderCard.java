@@ -1,28 +1,34 @@
 package com.ramotion.cardslider.examples.simple.cards;
 
 import android.graphics.Bitmap;
+import android.graphics.drawable.Drawable;
 import android.view.View;
 import android.view.ViewTreeObserver;
 import android.widget.ImageView;
 
+import com.ramotion.cardslider.CardSliderLayoutManager;
 import com.ramotion.cardslider.examples.simple.R;
 import com.ramotion.cardslider.examples.simple.utils.DecodeBitmapTask;
 
 import androidx.annotation.DrawableRes;
 import androidx.recyclerview.widget.RecyclerView;
 
-public class SliderCard extends RecyclerView.ViewHolder implements DecodeBitmapTask.Listener {
+public class SliderCard extends RecyclerView.ViewHolder
+        implements DecodeBitmapTask.Listener, CardSliderLayoutManager.DimmableCard {
 
     private static int viewWidth = 0;
     private static int viewHeight = 0;
 
     private final ImageView imageView;
+    private final Drawable overlay;
 
     private DecodeBitmapTask task;
 
     public SliderCard(View itemView) {
         super(itemView);
         imageView = (ImageView) itemView.findViewById(R.id.image);
+        overlay = itemView.findViewById(R.id.overlay).getBackground().mutate();
+        overlay.setAlpha(0);
     }
 
     void setContent(@DrawableRes final int resId) {
@@ -53,6 +59,12 @@ public class SliderCard extends RecyclerView.ViewHolder implements DecodeBitmapT
         task.execute();
     }
 
+    @Override
+    public void setDim(float dim) {
+        // ColorDrawable does not clamp alpha
+        overlay.setAlpha(Math.max(0, Math.min(255, Math.round(dim * 255))));
+    }
+
     @Override
     public void onPostExecuted(Bitmap bitmap) {
         imageView.setImageBitmap(bitmap);
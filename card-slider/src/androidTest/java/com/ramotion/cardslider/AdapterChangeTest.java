@@ -0,0 +1,104 @@
+package com.ramotion.cardslider;
+
+import android.content.Context;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import androidx.test.InstrumentationRegistry;
+import androidx.test.runner.AndroidJUnit4;
+
+import static com.ramotion.cardslider.CardSliderFixture.runOnMainSync;
+import static org.junit.Assert.*;
+
+/**
+ * Checks that {@link CardSliderLayoutManager} keeps the active card through adapter changes.
+ */
+@RunWith(AndroidJUnit4.class)
+public class AdapterChangeTest {
+
+    private CardSliderFixture fixture;
+
+    @Before
+    public void setUp() {
+        final Context context = InstrumentationRegistry.getTargetContext();
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                fixture = new CardSliderFixture(context, 0);
+                fixture.recyclerView.setItemAnimator(null);
+                fixture.layout();
+            }
+        });
+    }
+
+    @Test
+    public void insertIntoEmptyAdapterKeepsFirstCard() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                fixture.adapter.setItemCount(10);
+                fixture.adapter.notifyItemRangeInserted(0, 10);
+                fixture.layout();
+            }
+        });
+
+        assertEquals(0, fixture.layoutManager.getActiveCardPosition());
+    }
+
+    @Test
+    public void coalescedInsertsIntoEmptyAdapterKeepFirstCard() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                fixture.adapter.setItemCount(11);
+                fixture.adapter.notifyItemRangeInserted(0, 10);
+                fixture.adapter.notifyItemInserted(0);
+                fixture.layout();
+            }
+        });
+
+        assertEquals(0, fixture.layoutManager.getActiveCardPosition());
+    }
+
+    @Test
+    public void insertBeforeActiveCardKeepsIt() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                fixture.adapter.setItemCount(10);
+                fixture.adapter.notifyItemRangeInserted(0, 10);
+                fixture.layout();
+
+                fixture.recyclerView.scrollToPosition(3);
+                fixture.layout();
+
+                fixture.adapter.setItemCount(12);
+                fixture.adapter.notifyItemRangeInserted(0, 2);
+                fixture.layout();
+            }
+        });
+
+        assertEquals(5, fixture.layoutManager.getActiveCardPosition());
+    }
+
+    @Test
+    public void itemChangeKeepsCommittedTransforms() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                fixture.adapter.setItemCount(10);
+                fixture.adapter.notifyItemRangeInserted(0, 10);
+                fixture.layout();
+
+                fixture.layoutManager.resetTransformCounters();
+                fixture.adapter.notifyItemChanged(0);
+                fixture.layout();
+            }
+        });
+
+        assertEquals(0, fixture.layoutManager.getTransformWriteCount());
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.ramotion.cardslider;
+
+import android.content.Context;
+import android.view.View;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import androidx.test.InstrumentationRegistry;
+import androidx.test.runner.AndroidJUnit4;
+
+import static com.ramotion.cardslider.CardSliderFixture.runOnMainSync;
+import static org.junit.Assert.*;
+
+/**
+ * Checks that {@link CardSliderLayoutManager} applies deltas of many cards in a single scroll call.
+ */
+@RunWith(AndroidJUnit4.class)
+public class LargeScrollTest {
+
+    private static final int ITEM_COUNT = 1000;
+    private static final int START_POSITION = 500;
+
+    private CardSliderFixture fixture;
+    private CardSliderLayoutManager layoutManager;
+
+    @Before
+    public void setUp() {
+        final Context context = InstrumentationRegistry.getTargetContext();
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                fixture = new CardSliderFixture(context, ITEM_COUNT);
+                layoutManager = fixture.layoutManager;
+                fixture.layout();
+
+                fixture.recyclerView.scrollToPosition(START_POSITION);
+                fixture.layout();
+            }
+        });
+    }
+
+    @Test
+    public void scrollRightManyCards() {
+        scrollByCards(-100);
+        assertAtRest(START_POSITION - 100);
+    }
+
+    @Test
+    public void scrollLeftManyCards() {
+        scrollByCards(100);
+        assertAtRest(START_POSITION + 100);
+    }
+
+    @Test
+    public void scrollStopsAtEnds() {
+        scrollByCards(-ITEM_COUNT);
+        assertAtRest(0);
+
+        scrollByCards(2 * ITEM_COUNT);
+        assertAtRest(ITEM_COUNT - 1);
+    }
+
+    private void scrollByCards(final int cards) {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                fixture.recyclerView.scrollBy(cards * layoutManager.getCardWidth(), 0);
+            }
+        });
+    }
+
+    private void assertAtRest(int position) {
+        assertEquals(position, layoutManager.getActiveCardPosition());
+        assertEquals(0, layoutManager.getScrollDistanceToPosition(position));
+
+        final CardGeometry geometry = layoutManager.getGeometry();
+        for (int i = 0, cnt = layoutManager.getChildCount(); i < cnt; i++) {
+            final View view = layoutManager.getChildAt(i);
+            final int expectedLeft = geometry.getCardLeft(layoutManager.getPosition(view) - position);
+            assertEquals(expectedLeft, layoutManager.getDecoratedLeft(view));
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.ramotion.cardslider;
+
+import android.os.Debug;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.rule.ActivityTestRule;
+import androidx.test.runner.AndroidJUnit4;
+
+import static com.ramotion.cardslider.CardSliderFixture.runOnMainSync;
+import static org.junit.Assert.*;
+
+/**
+ * Checks that steady-state scrolling of {@link CardSliderLayoutManager} does not allocate.
+ * The slider is attached to a window and uses hardware layers and overlay dimming,
+ * so all per-frame paths of the layout manager are measured.
+ */
+@RunWith(AndroidJUnit4.class)
+public class ScrollAllocationTest {
+
+    private static final int ITEM_COUNT = 1000;
+
+    private static final int SCROLL_STEP = 23;
+    private static final int FRAMES_PER_DIRECTION = 60;
+    private static final int WARM_UP_FRAMES = 1000;
+    private static final int MEASURED_FRAMES = 5000;
+
+    @Rule
+    public ActivityTestRule<TestActivity> activityRule = new ActivityTestRule<>(TestActivity.class);
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void scrollDoesNotAllocateAfterWarmUp() throws Exception {
+        final TestActivity activity = activityRule.getActivity();
+        final int[] allocations = new int[1];
+
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                final CardSliderFixture fixture = new CardSliderFixture(activity, ITEM_COUNT);
+
+                final DefaultViewUpdater updater = new DefaultViewUpdater();
+                updater.setDimMode(DefaultViewUpdater.DIM_MODE_OVERLAY);
+                fixture.layoutManager.setViewUpdater(updater);
+                fixture.layoutManager.setHardwareLayerCardCount(2);
+
+                fixture.attachTo(activity);
+                fixture.layout();
+
+                // Puts RecyclerView into settling state, so cards are promoted to hardware layers.
+                // The smooth scroll itself does not run, as no animation frame comes until the end of the test.
+                final RecyclerView recyclerView = fixture.recyclerView;
+                recyclerView.smoothScrollBy(1, 0);
+
+                scroll(recyclerView, WARM_UP_FRAMES);
+
+                Debug.startAllocCounting();
+                Debug.resetThreadAllocCount();
+                try {
+                    scroll(recyclerView, MEASURED_FRAMES);
+                    allocations[0] = Debug.getThreadAllocCount();
+                } finally {
+                    Debug.stopAllocCounting();
+                    recyclerView.stopScroll();
+                }
+            }
+        });
+
+        assertEquals("Allocations during steady-state scroll", 0, allocations[0]);
+    }
+
+    private static void scroll(RecyclerView recyclerView, int frames) {
+        for (int i = 0; i < frames; i++) {
+            final boolean forward = (i / FRAMES_PER_DIRECTION) % 2 == 0;
+            recyclerView.scrollBy(forward ? SCROLL_STEP : -SCROLL_STEP, 0);
+        }
+    }
+
+}
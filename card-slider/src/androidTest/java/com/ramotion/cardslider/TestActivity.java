@@ -0,0 +1,9 @@
+package com.ramotion.cardslider;
+
+import android.app.Activity;
+
+/**
+ * Empty activity, which provides a window for instrumentation tests.
+ */
+public class TestActivity extends Activity {
+}
@@ -0,0 +1,253 @@
+package com.ramotion.cardslider;
+
+/**
+ * Card positioning and transition math of {@link CardSliderLayoutManager} and {@link DefaultViewUpdater}.
+ * Pure arithmetic, does not depend on {@link android.view.View}, so it can be precomputed and tested
+ * without a device.
+ *
+ * All coordinates are card left edges in pixels relative to the start of RecyclerView.
+ */
+public class CardGeometry {
+
+    public static final float SCALE_LEFT = 0.65f;
+    public static final float SCALE_CENTER = 0.95f;
+    public static final float SCALE_RIGHT = 0.8f;
+    public static final float SCALE_CENTER_TO_LEFT = SCALE_CENTER - SCALE_LEFT;
+    public static final float SCALE_CENTER_TO_RIGHT = SCALE_CENTER - SCALE_RIGHT;
+
+    public static final int Z_CENTER_1 = 12;
+    public static final int Z_CENTER_2 = 16;
+    public static final int Z_RIGHT = 8;
+
+    private final int cardWidth;
+    private final int activeCardLeft;
+    private final int activeCardRight;
+    private final int activeCardCenter;
+    private final float cardsGap;
+    private final int leftCardCount;
+    private final int stackStep;
+
+    private final int transitionEnd;
+    private final int transitionDistance;
+    private final float transitionRight2Center;
+
+    /**
+     * @param activeCardLeft    Active card offset from start of RecyclerView.
+     * @param cardWidth         Card width.
+     * @param cardsGap          Distance between cards.
+     * @param leftCardCount     Number of stacked cards on the left of the active card.
+     */
+    public CardGeometry(int activeCardLeft, int cardWidth, float cardsGap, int leftCardCount) {
+        this.cardWidth = cardWidth;
+        this.activeCardLeft = activeCardLeft;
+        this.activeCardRight = activeCardLeft + cardWidth;
+        this.activeCardCenter = activeCardLeft + cardWidth / 2;
+        this.cardsGap = cardsGap;
+        this.leftCardCount = leftCardCount;
+        this.stackStep = activeCardLeft / leftCardCount;
+
+        this.transitionEnd = activeCardCenter;
+        this.transitionDistance = activeCardRight - transitionEnd;
+
+        final float centerBorder = (cardWidth - cardWidth * SCALE_CENTER) / 2f;
+        final float rightBorder = (cardWidth - cardWidth * SCALE_RIGHT) / 2f;
+        final float right2centerDistance = (activeCardRight + centerBorder) - (activeCardRight - rightBorder);
+        this.transitionRight2Center = right2centerDistance - cardsGap;
+    }
+
+    public int getCardWidth() {
+        return cardWidth;
+    }
+
+    public int getActiveCardLeft() {
+        return activeCardLeft;
+    }
+
+    public int getActiveCardRight() {
+        return activeCardRight;
+    }
+
+    public int getActiveCardCenter() {
+        return activeCardCenter;
+    }
+
+    public float getCardsGap() {
+        return cardsGap;
+    }
+
+    public int getLeftCardCount() {
+        return leftCardCount;
+    }
+
+    /**
+     * @return Distance between stacked (left) cards.
+     */
+    public int getStackStep() {
+        return stackStep;
+    }
+
+    /**
+     * Left edge of a card laid out relative to the anchor (active) card.
+     *
+     * @param relativePosition  Adapter position minus anchor position.
+     *                          0 is active card, 1 is first right card, -1 is first left (stacked) card.
+     * @return Card left edge. Stacked cards never go further left than one stack step
+     *         beyond the start of RecyclerView.
+     */
+    public int getCardLeft(int relativePosition) {
+        if (relativePosition >= 0) {
+            return activeCardLeft + relativePosition * cardWidth;
+        } else {
+            return Math.max(-1, leftCardCount + relativePosition) * stackStep;
+        }
+    }
+
+    /**
+     * @return Card's offset from active card left edge in card widths. Negative for stacked cards.
+     * See {@link CardSliderLayoutManager.ViewUpdater#updateView}
+     */
+    public float getPosition(int viewLeft) {
+        return (float) (viewLeft - activeCardLeft) / cardWidth;
+    }
+
+    /**
+     * Left edge of a card laid out relative to the anchor card, which is scrolled by {@code anchorOffset}.
+     * Cards move linearly between their {@link #getCardLeft(int) resting places}: right cards with full
+     * scroll speed, stacked cards one stack step per card width of scroll.
+     *
+     * @param relativePosition  Adapter position minus anchor position.
+     * @param anchorOffset      Scroll distance past the anchor card resting place, from 0 to card width.
+     */
+    public int getCardLeft(int relativePosition, int anchorOffset) {
+        final int from = getCardLeft(relativePosition);
+        if (anchorOffset == 0) {
+            return from;
+        }
+
+        final int to = getCardLeft(relativePosition - 1);
+        return from + Math.round((float) (to - from) * anchorOffset / cardWidth);
+    }
+
+    /**
+     * Inverse of {@link #getCardLeft(int, int)} for the anchor card.
+     *
+     * @param anchorLeft    Left edge of the anchor card.
+     * @return Anchor offset, from 0 to card width exclusive.
+     */
+    public int getAnchorOffset(int anchorLeft) {
+        final int distance = activeCardLeft - getCardLeft(-1);
+        if (distance <= 0 || anchorLeft >= activeCardLeft) {
+            return 0;
+        }
+
+        final int offset = Math.round((float) (activeCardLeft - anchorLeft) * cardWidth / distance);
+        return Math.min(cardWidth - 1, offset);
+    }
+
+    /**
+     * Number of cards, which can be attached at once: stacked cards with the one leaving the stack,
+     * anchor card, and right cards up to the first card beyond the right edge of RecyclerView.
+     *
+     * @param width RecyclerView width.
+     */
+    public int getMaxAttachedCardCount(int width) {
+        // Right cards are up to one card width closer to the left edge while anchor card is scrolled
+        final int rightDistance = Math.max(1, width - activeCardLeft) + cardWidth - 1;
+        final int rightCardCount = (int) Math.ceil((float) rightDistance / cardWidth);
+        return leftCardCount + 1 + 1 + rightCardCount;
+    }
+
+    /**
+     * @return Scale of card with the left edge at {@code viewLeft}, without translation to previous card.
+     */
+    public float getScale(int viewLeft) {
+        final float position = getPosition(viewLeft);
+        if (position < 0) {
+            return SCALE_LEFT + SCALE_CENTER_TO_LEFT * getStackRatio(viewLeft);
+        } else if (position < 0.5f) {
+            return SCALE_CENTER;
+        } else if (position < 1f) {
+            final float ratio = (float) (viewLeft - activeCardCenter) / (activeCardRight - activeCardCenter);
+            return SCALE_CENTER - SCALE_CENTER_TO_RIGHT * ratio;
+        } else {
+            return SCALE_RIGHT;
+        }
+    }
+
+    public float getAlpha(int viewLeft) {
+        if (getPosition(viewLeft) < 0) {
+            return 0.1f + getStackRatio(viewLeft);
+        } else {
+            return 1f;
+        }
+    }
+
+    public float getZ(int viewLeft) {
+        final float position = getPosition(viewLeft);
+        if (position < 0) {
+            return Z_CENTER_1 * getStackRatio(viewLeft);
+        } else if (position < 0.5f) {
+            return Z_CENTER_1;
+        } else if (position < 1f) {
+            return Z_CENTER_2;
+        } else {
+            return Z_RIGHT;
+        }
+    }
+
+    /**
+     * Translation of a card, which moves from first right to active position.
+     * Returns 0 for stacked and active cards. Cards to the right of active card
+     * depend on the previous card, see {@link #getRightCardTranslationX}.
+     */
+    public float getTranslationX(int viewLeft) {
+        final float position = getPosition(viewLeft);
+        if (position < 0.5f || position >= 1f) {
+            return 0;
+        }
+
+        final float x = transitionRight2Center * (viewLeft - transitionEnd) / transitionDistance;
+        if (Math.abs(transitionRight2Center) < Math.abs(x)) {
+            return -transitionRight2Center;
+        } else {
+            return -x;
+        }
+    }
+
+    /**
+     * Translation of a card on the right of active card, which keeps {@code cardsGap}
+     * between the card and its left neighbour.
+     *
+     * @param viewLeft              Card left edge.
+     * @param prevRight             Right edge of the previous (left neighbour) card.
+     * @param prevScale             Scale of the previous card.
+     * @param prevTranslationX      Translation of the previous card.
+     */
+    public float getRightCardTranslationX(int viewLeft, int prevRight, float prevScale, float prevTranslationX) {
+        final float prevViewScale;
+        final float prevTransition;
+        final int prevViewRight;
+
+        final boolean isFirstRight = prevRight <= activeCardRight;
+        if (isFirstRight) {
+            prevViewScale = SCALE_CENTER;
+            prevViewRight = activeCardRight;
+            prevTransition = 0;
+        } else {
+            prevViewScale = prevScale;
+            prevViewRight = prevRight;
+            prevTransition = prevTranslationX;
+        }
+
+        final float prevBorder = (cardWidth - cardWidth * prevViewScale) / 2;
+        final float currentBorder = (cardWidth - cardWidth * SCALE_RIGHT) / 2;
+        final float distance = (viewLeft + currentBorder) - (prevViewRight - prevBorder + prevTransition);
+
+        return -(distance - cardsGap);
+    }
+
+    private float getStackRatio(int viewLeft) {
+        return (float) viewLeft / activeCardLeft;
+    }
+
+}
@@ -0,0 +1,348 @@
+package com.ramotion.cardslider;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.ValueAnimator;
+import android.view.View;
+import android.view.ViewParent;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.view.ViewCompat;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Item animator of {@link CardSliderLayoutManager}.
+ *
+ * Added, removed, moved and changed cards are animated together by one animator, which interpolates card
+ * position, scale, alpha and Z every frame from their values before the adapter change to the card transforms
+ * of the layout manager. Transforms are read every frame, so cards stay in place if the slider is scrolled
+ * during animation, and animation finishes with the committed card transforms.
+ * All cards of a change are animated with {@link #getMoveDuration() move duration}.
+ */
+public class CardItemAnimator extends RecyclerView.ItemAnimator {
+
+    private final List<CardAnimation> pending = new ArrayList<>();
+    private final List<CardAnimation> running = new ArrayList<>();
+
+    private ValueAnimator animator;
+
+    /**
+     * Card state before or after layout: layout position and View properties.
+     */
+    static class CardHolderInfo extends ItemHolderInfo {
+        float translationX;
+        float scaleX;
+        float scaleY;
+        float alpha;
+        float z;
+
+        @Override
+        public ItemHolderInfo setFrom(@NonNull RecyclerView.ViewHolder holder, int flags) {
+            super.setFrom(holder, flags);
+
+            final View view = holder.itemView;
+            translationX = view.getTranslationX();
+            scaleX = view.getScaleX();
+            scaleY = view.getScaleY();
+            alpha = view.getAlpha();
+            z = ViewCompat.getZ(view);
+            return this;
+        }
+
+        boolean isSame(@NonNull CardHolderInfo other) {
+            return left == other.left && top == other.top
+                    && translationX == other.translationX
+                    && scaleX == other.scaleX && scaleY == other.scaleY
+                    && alpha == other.alpha && z == other.z;
+        }
+    }
+
+    private static class CardAnimation {
+        static final int APPEAR = 0;
+        static final int DISAPPEAR = 1;
+
+        final RecyclerView.ViewHolder holder;
+        final int type;
+
+        // Visual left edge and View properties at the start
+        float fromX;
+        float fromScaleX;
+        float fromScaleY;
+        float fromAlpha;
+        float fromZ;
+
+        // End values of disappearing cards, appearing cards end with their transforms
+        float toX;
+        float toAlpha;
+
+        CardAnimation(@NonNull RecyclerView.ViewHolder holder, int type, @NonNull CardHolderInfo from) {
+            this.holder = holder;
+            this.type = type;
+            this.fromX = from.left + from.translationX;
+            this.fromScaleX = from.scaleX;
+            this.fromScaleY = from.scaleY;
+            this.fromAlpha = from.alpha;
+            this.fromZ = from.z;
+            this.toX = fromX;
+            this.toAlpha = fromAlpha;
+        }
+    }
+
+    @NonNull
+    @Override
+    public ItemHolderInfo obtainHolderInfo() {
+        return new CardHolderInfo();
+    }
+
+    @Override
+    public boolean canReuseUpdatedViewHolder(@NonNull RecyclerView.ViewHolder viewHolder,
+                                             @NonNull List<Object> payloads) {
+        // Changed card is animated as persistent one
+        return true;
+    }
+
+    @Override
+    public boolean animateDisappearance(@NonNull RecyclerView.ViewHolder holder,
+                                        @NonNull ItemHolderInfo preInfo, @Nullable ItemHolderInfo postInfo) {
+        final CardAnimation animation = new CardAnimation(holder, CardAnimation.DISAPPEAR, (CardHolderInfo) preInfo);
+        if (postInfo != null && postInfo.left != preInfo.left) {
+            // Card is moved out of the slider
+            animation.toX = postInfo.left + ((CardHolderInfo) preInfo).translationX;
+        } else {
+            animation.toAlpha = 0;
+        }
+
+        pending.add(animation);
+        return true;
+    }
+
+    @Override
+    public boolean animateAppearance(@NonNull RecyclerView.ViewHolder holder,
+                                     @Nullable ItemHolderInfo preInfo, @NonNull ItemHolderInfo postInfo) {
+        final CardAnimation animation;
+        if (preInfo != null) {
+            animation = new CardAnimation(holder, CardAnimation.APPEAR, (CardHolderInfo) preInfo);
+        } else {
+            // Added card fades in at its place
+            animation = new CardAnimation(holder, CardAnimation.APPEAR, (CardHolderInfo) postInfo);
+            animation.fromAlpha = 0;
+        }
+
+        return addAppearing(animation);
+    }
+
+    @Override
+    public boolean animatePersistence(@NonNull RecyclerView.ViewHolder holder,
+                                      @NonNull ItemHolderInfo preInfo, @NonNull ItemHolderInfo postInfo) {
+        if (((CardHolderInfo) preInfo).isSame((CardHolderInfo) postInfo)) {
+            dispatchAnimationFinished(holder);
+            return false;
+        }
+
+        return addAppearing(new CardAnimation(holder, CardAnimation.APPEAR, (CardHolderInfo) preInfo));
+    }
+
+    @Override
+    public boolean animateChange(@NonNull RecyclerView.ViewHolder oldHolder, @NonNull RecyclerView.ViewHolder newHolder,
+                                 @NonNull ItemHolderInfo preInfo, @NonNull ItemHolderInfo postInfo) {
+        if (oldHolder == newHolder) {
+            return animatePersistence(newHolder, preInfo, postInfo);
+        }
+
+        // Holders are not reused only if adapter forces it, cross fade them then
+        final CardAnimation disappearing = new CardAnimation(oldHolder, CardAnimation.DISAPPEAR, (CardHolderInfo) preInfo);
+        disappearing.toAlpha = 0;
+        pending.add(disappearing);
+
+        final CardAnimation appearing = new CardAnimation(newHolder, CardAnimation.APPEAR, (CardHolderInfo) preInfo);
+        appearing.fromAlpha = 0;
+        return addAppearing(appearing);
+    }
+
+    @Override
+    public void runPendingAnimations() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // Cards animated again continue from their current values, other running animations jump to the end
+        for (int i = running.size() - 1; i >= 0; i--) {
+            final RecyclerView.ViewHolder holder = running.get(i).holder;
+            if (isPending(holder)) {
+                running.remove(i);
+                dispatchAnimationFinished(holder);
+            }
+        }
+
+        if (animator != null) {
+            animator.cancel();
+        }
+
+        running.addAll(pending);
+        pending.clear();
+
+        for (int i = 0, cnt = running.size(); i < cnt; i++) {
+            dispatchAnimationStarted(running.get(i).holder);
+        }
+
+        animator = ValueAnimator.ofFloat(0f, 1f);
+        animator.setDuration(getMoveDuration());
+        animator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
+            @Override
+            public void onAnimationUpdate(ValueAnimator animation) {
+                final float fraction = animation.getAnimatedFraction();
+                for (int i = 0, cnt = running.size(); i < cnt; i++) {
+                    apply(running.get(i), fraction);
+                }
+            }
+        });
+        animator.addListener(new AnimatorListenerAdapter() {
+            @Override
+            public void onAnimationEnd(Animator animation) {
+                if (animator == animation) {
+                    animator = null;
+                }
+                finishRunning();
+            }
+        });
+        animator.start();
+    }
+
+    @Override
+    public void endAnimation(@NonNull RecyclerView.ViewHolder holder) {
+        if (finish(pending, holder) || finish(running, holder)) {
+            dispatchFinishedWhenDone();
+        }
+    }
+
+    @Override
+    public void endAnimations() {
+        for (int i = pending.size() - 1; i >= 0; i--) {
+            finish(pending, pending.get(i).holder);
+        }
+
+        if (animator != null) {
+            // Finishes running animations from the end listener
+            animator.cancel();
+        } else {
+            dispatchFinishedWhenDone();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return !pending.isEmpty() || !running.isEmpty();
+    }
+
+    private boolean addAppearing(@NonNull CardAnimation animation) {
+        // Card is drawn in its start state until animation is started
+        apply(animation, 0f);
+        pending.add(animation);
+        return true;
+    }
+
+    private boolean isPending(@NonNull RecyclerView.ViewHolder holder) {
+        for (int i = 0, cnt = pending.size(); i < cnt; i++) {
+            if (pending.get(i).holder == holder) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void finishRunning() {
+        for (int i = running.size() - 1; i >= 0; i--) {
+            finish(running, running.get(i).holder);
+        }
+        dispatchFinishedWhenDone();
+    }
+
+    private boolean finish(@NonNull List<CardAnimation> animations, @NonNull RecyclerView.ViewHolder holder) {
+        for (int i = animations.size() - 1; i >= 0; i--) {
+            final CardAnimation animation = animations.get(i);
+            if (animation.holder != holder) {
+                continue;
+            }
+
+            animations.remove(i);
+            if (animation.type == CardAnimation.DISAPPEAR) {
+                // Card goes to the pool, its transform is committed again when it is attached
+                final View view = holder.itemView;
+                view.setTranslationX(0);
+                view.setScaleX(1f);
+                view.setScaleY(1f);
+                view.setAlpha(1f);
+            } else {
+                apply(animation, 1f);
+            }
+
+            dispatchAnimationFinished(holder);
+            return true;
+        }
+
+        return false;
+    }
+
+    private void dispatchFinishedWhenDone() {
+        if (!isRunning()) {
+            dispatchAnimationsFinished();
+        }
+    }
+
+    private static void apply(@NonNull CardAnimation animation, float fraction) {
+        final View view = animation.holder.itemView;
+
+        final float toX;
+        final float toScaleX;
+        final float toScaleY;
+        final float toAlpha;
+        final float toZ;
+        final boolean applyZ;
+
+        final CardSliderLayoutManager lm = animation.type == CardAnimation.APPEAR ? getLayoutManager(view) : null;
+        if (lm != null) {
+            final CardTransform transform = lm.getCardTransform(view);
+            toX = view.getLeft() + transform.getTranslationX();
+            toScaleX = transform.getScaleX();
+            toScaleY = transform.getScaleY();
+            toAlpha = transform.getAlpha();
+            toZ = transform.getZ();
+            applyZ = lm.isElevationEnabled();
+        } else {
+            toX = animation.type == CardAnimation.APPEAR ? view.getLeft() : animation.toX;
+            toScaleX = animation.fromScaleX;
+            toScaleY = animation.fromScaleY;
+            toAlpha = animation.type == CardAnimation.APPEAR ? 1f : animation.toAlpha;
+            toZ = animation.fromZ;
+            applyZ = false;
+        }
+
+        view.setTranslationX(lerp(animation.fromX, toX, fraction) - view.getLeft());
+        view.setScaleX(lerp(animation.fromScaleX, toScaleX, fraction));
+        view.setScaleY(lerp(animation.fromScaleY, toScaleY, fraction));
+        view.setAlpha(lerp(animation.fromAlpha, toAlpha, fraction));
+        if (applyZ) {
+            ViewCompat.setZ(view, lerp(animation.fromZ, toZ, fraction));
+        }
+    }
+
+    @Nullable
+    private static CardSliderLayoutManager getLayoutManager(@NonNull View view) {
+        final ViewParent parent = view.getParent();
+        if (!(parent instanceof RecyclerView)) {
+            return null;
+        }
+
+        final RecyclerView.LayoutManager lm = ((RecyclerView) parent).getLayoutManager();
+        return lm instanceof CardSliderLayoutManager ? (CardSliderLayoutManager) lm : null;
+    }
+
+    private static float lerp(float from, float to, float fraction) {
+        return from + (to - from) * fraction;
+    }
+
+}
@@ -0,0 +1,239 @@
+package com.ramotion.cardslider;
+
+import android.content.Context;
+import android.view.Display;
+import android.view.View;
+import android.view.WindowManager;
+import android.view.animation.Interpolator;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.LinearSmoothScroller;
+import androidx.recyclerview.widget.RecyclerView;
+
+/**
+ * Smooth scroller of {@link CardSliderLayoutManager}, which moves cards like a critically damped spring.
+ *
+ * The whole distance to the target card is scrolled by one action, see
+ * {@link CardSliderLayoutManager#getScrollDistanceToPosition(int)}. Duration is the time the spring needs
+ * to settle, stepped by frames of the display refresh rate and limited by {@link #setDurationBounds}.
+ * Scroller can be reused, it is restarted by {@link RecyclerView.LayoutManager#startSmoothScroll}.
+ */
+public class CardScroller extends LinearSmoothScroller {
+
+    public static final float DEFAULT_STIFFNESS = 1500f;
+    public static final int DEFAULT_MIN_DURATION = 100;
+    public static final int DEFAULT_MAX_DURATION = 600;
+
+    private static final float DEFAULT_REFRESH_RATE = 60f;
+
+    private final Display display;
+    private final SpringInterpolator interpolator;
+
+    private int minDuration = DEFAULT_MIN_DURATION;
+    private int maxDuration = DEFAULT_MAX_DURATION;
+    private int jumpThreshold;
+    private float initialVelocity;
+    private boolean started;
+
+    /**
+     * Interpolator of critically damped spring, which moves from 0 to the target distance
+     * with initial velocity. Normalized to reach 1 at the end of duration.
+     */
+    static class SpringInterpolator implements Interpolator {
+
+        static final float SETTLE_DISTANCE = 0.5f;
+
+        private final float omega;
+
+        private float distance;
+        private float velocity;
+        private float duration;
+        private float end;
+
+        /**
+         * @param stiffness Spring stiffness of unit mass.
+         */
+        SpringInterpolator(float stiffness) {
+            this.omega = (float) Math.sqrt(stiffness);
+        }
+
+        /**
+         * @param distance      Distance in pixels, positive.
+         * @param velocity      Initial velocity towards the target in pixels per second.
+         *                      Limited to the velocity, which does not overshoot the target.
+         * @param frameInterval Display frame interval in seconds.
+         * @param minDuration   Minimum duration in seconds.
+         * @param maxDuration   Maximum duration in seconds.
+         * @return Duration in milliseconds, a whole number of frames within bounds.
+         */
+        int setup(float distance, float velocity, float frameInterval, float minDuration, float maxDuration) {
+            this.distance = distance;
+            this.velocity = Math.max(0, Math.min(velocity, omega * distance));
+
+            final int minFrames = Math.max(1, (int) Math.ceil(minDuration / frameInterval));
+            final int maxFrames = Math.max(minFrames, (int) Math.floor(maxDuration / frameInterval));
+
+            int frames = minFrames;
+            while (frames < maxFrames && Math.abs(getError(frames * frameInterval)) > SETTLE_DISTANCE) {
+                frames++;
+            }
+
+            this.duration = frames * frameInterval;
+            this.end = distance + getError(duration);
+
+            return Math.round(duration * 1000);
+        }
+
+        @Override
+        public float getInterpolation(float input) {
+            return (distance + getError(input * duration)) / end;
+        }
+
+        /**
+         * @return Signed distance from the target at time {@code t} in seconds.
+         */
+        private float getError(float t) {
+            final float error = -distance;
+            return (float) ((error + (velocity + omega * error) * t) * Math.exp(-omega * t));
+        }
+    }
+
+    public CardScroller(@NonNull Context context) {
+        this(context, DEFAULT_STIFFNESS);
+    }
+
+    /**
+     * @param stiffness Spring stiffness. Higher stiffness makes scroll faster.
+     *                  Default value is {@link #DEFAULT_STIFFNESS}.
+     */
+    public CardScroller(@NonNull Context context, float stiffness) {
+        super(context);
+
+        if (stiffness <= 0) {
+            throw new IllegalArgumentException("Stiffness must be positive");
+        }
+
+        final WindowManager windowManager = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
+        this.display = windowManager != null ? windowManager.getDefaultDisplay() : null;
+        this.interpolator = new SpringInterpolator(stiffness);
+    }
+
+    /**
+     * @param minDuration   Minimum scroll duration in milliseconds. Default value is {@link #DEFAULT_MIN_DURATION}.
+     * @param maxDuration   Maximum scroll duration in milliseconds. Default value is {@link #DEFAULT_MAX_DURATION}.
+     */
+    public void setDurationBounds(int minDuration, int maxDuration) {
+        if (minDuration <= 0 || maxDuration < minDuration) {
+            throw new IllegalArgumentException("Invalid duration bounds");
+        }
+        this.minDuration = minDuration;
+        this.maxDuration = maxDuration;
+    }
+
+    /**
+     * See {@link CardSliderLayoutManager#setSmoothScrollJumpThreshold(int)}.
+     *
+     * @param jumpThreshold Number of cards, or 0 to always scroll the whole way.
+     */
+    public void setJumpThreshold(int jumpThreshold) {
+        this.jumpThreshold = jumpThreshold;
+    }
+
+    /**
+     * Sets velocity of the next scroll start, e.g. fling velocity for the snap scroll.
+     *
+     * @param velocity  Horizontal velocity in pixels per second.
+     */
+    public void setInitialVelocity(float velocity) {
+        this.initialVelocity = velocity;
+    }
+
+    @Override
+    protected void onStart() {
+        super.onStart();
+        started = false;
+    }
+
+    @Override
+    protected void onSeekTargetStep(int dx, int dy, RecyclerView.State state, Action action) {
+        scroll(action, true);
+    }
+
+    @Override
+    protected void onTargetFound(View targetView, RecyclerView.State state, Action action) {
+        scroll(action, false);
+    }
+
+    /**
+     * Called when the target card is already active and at rest, so there is nothing to scroll.
+     */
+    protected void onTargetReached() {
+    }
+
+    /**
+     * Stops the scroller, if it is running, before it is started again.
+     */
+    void cancel() {
+        if (isRunning()) {
+            stop();
+        }
+    }
+
+    private void scroll(Action action, boolean canJump) {
+        // Once started, the scroll continues until the target is reached, even if this scroller is stopped
+        if (started) {
+            return;
+        }
+
+        final CardSliderLayoutManager lm = (CardSliderLayoutManager) getLayoutManager();
+        if (lm == null) {
+            return;
+        }
+
+        final int targetPosition = getTargetPosition();
+        if (canJump) {
+            final int jumpPosition = getJumpPosition(lm.getActiveCardPosition(), targetPosition);
+            if (jumpPosition != RecyclerView.NO_POSITION) {
+                action.jumpTo(jumpPosition);
+                return;
+            }
+        }
+
+        started = true;
+
+        final int dx = lm.getScrollDistanceToPosition(targetPosition);
+        final float velocity = initialVelocity * Math.signum(dx);
+        initialVelocity = 0;
+
+        if (dx == 0) {
+            // Nothing to scroll, so scroll state will not change
+            stop();
+            onTargetReached();
+            return;
+        }
+
+        final int duration = interpolator.setup(Math.abs(dx), velocity,
+                1f / getRefreshRate(), minDuration / 1000f, maxDuration / 1000f);
+        action.update(dx, 0, duration, interpolator);
+    }
+
+    private int getJumpPosition(int currentPosition, int targetPosition) {
+        if (jumpThreshold == 0 || currentPosition == RecyclerView.NO_POSITION) {
+            return RecyclerView.NO_POSITION;
+        }
+
+        if (targetPosition - currentPosition > jumpThreshold) {
+            return targetPosition - jumpThreshold;
+        } else if (currentPosition - targetPosition > jumpThreshold) {
+            return targetPosition + jumpThreshold;
+        } else {
+            return RecyclerView.NO_POSITION;
+        }
+    }
+
+    private float getRefreshRate() {
+        final float refreshRate = display != null ? display.getRefreshRate() : 0;
+        return refreshRate >= 1 ? refreshRate : DEFAULT_REFRESH_RATE;
+    }
+
+}
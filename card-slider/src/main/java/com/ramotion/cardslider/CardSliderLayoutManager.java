@@ -1,8 +1,10 @@
 package com.ramotion.cardslider;
 
 import android.content.Context;
+import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.graphics.PointF;
+import android.graphics.RectF;
 import android.os.Parcel;
 import android.os.Parcelable;
 
@@ -13,14 +15,15 @@ import androidx.recyclerview.widget.LinearSmoothScroller;
 import androidx.recyclerview.widget.RecyclerView;
 
 import android.util.AttributeSet;
-import android.util.DisplayMetrics;
-import android.util.SparseArray;
 import android.util.SparseIntArray;
 import android.view.View;
+import android.view.ViewGroup;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.WeakHashMap;
 
 /**
  * A {@link androidx.recyclerview.widget.RecyclerView.LayoutManager} implementation.
@@ -32,9 +35,18 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
     private static final int DEFAULT_CARD_WIDTH = 148;
     private static final int DEFAULT_CARDS_GAP = 12;
     private static final int LEFT_CARD_COUNT = 2;
+    private static final int DEFAULT_PREFETCH_ITEM_COUNT = 1;
+    private static final int DEFAULT_INITIAL_PREFETCH_ITEM_COUNT = 2;
+    private static final int DEFAULT_RECYCLED_VIEW_POOL_SIZE = 5;
 
-    private final SparseArray<View> viewCache = new SparseArray<>();
-    private final SparseIntArray cardsXCoords = new SparseIntArray();
+    /**
+     * Payload of item change notification, which is sent for cards attached during fast scroll
+     * when scroll stops. See {@link #setFastScrollThreshold(int)}.
+     */
+    public static final Object PAYLOAD_FAST_SCROLL_FINISHED = new Object();
+
+    // Sizes set by layout managers per pool. Pool does not expose its sizes and may be shared by many sliders
+    private static final WeakHashMap<RecyclerView.RecycledViewPool, SparseIntArray> poolSizes = new WeakHashMap<>();
 
     private int cardWidth;
     private int activeCardLeft;
@@ -43,11 +55,76 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
 
     private float cardsGap;
 
-    private int scrollRequestedPosition = 0;
+    private CardGeometry geometry;
 
-    private ViewUpdater viewUpdater;
+    private int scrollRequestedPosition = 0;
+    private int scrollRequestedOffset;
+
+    private int anchorPosition;
+    private int anchorOffset;
+
+    private int activeCardPosition = RecyclerView.NO_POSITION;
+    private float activeCardOffset;
+    private int prefetchItemCount = DEFAULT_PREFETCH_ITEM_COUNT;
+    private int initialPrefetchItemCount = DEFAULT_INITIAL_PREFETCH_ITEM_COUNT;
+    private boolean recycleChildrenOnDetach;
+
+    private int fastScrollThreshold;
+    private int smoothScrollJumpThreshold;
+    private CardScroller smoothScroller;
+    private int scrollState = RecyclerView.SCROLL_STATE_IDLE;
+    private int lastScrollDelta;
+    private int fastAttachedFirst = RecyclerView.NO_POSITION;
+    private int fastAttachedLast = RecyclerView.NO_POSITION;
+
+    private BatchViewUpdater viewUpdater;
     private RecyclerView recyclerView;
 
+    private View[] frameViews = new View[0];
+    private int[] frameLefts = new int[0];
+    private float[] framePositions = new float[0];
+
+    private long transformWriteCount;
+    private long skippedTransformWriteCount;
+
+    private int hardwareLayerCardCount;
+
+    private boolean itemAnimationsPending;
+
+    // Whether cards were laid out since the slider was last empty. Until then the anchor is the place
+    // the slider opens at, not a card, and insertions do not move it
+    private boolean anchorLaidOut;
+    // Item count of the last layout pass, updated by adapter change callbacks
+    private int knownItemCount;
+
+    private boolean elevationEnabled = true;
+    private int[] drawingOrder = new int[0];
+    private float[] drawingOrderZ = new float[0];
+    private int drawingOrderChildCount = -1;
+    private int drawingOrderGeneration;
+    // Incremented when cards are laid out, scrolled or restacked, invalidates drawing order
+    private int cardsGeneration;
+    private final RecyclerView.ChildDrawingOrderCallback drawingOrderCallback =
+            new RecyclerView.ChildDrawingOrderCallback() {
+                @Override
+                public int onGetChildDrawingOrder(int childCount, int i) {
+                    // Called for any i in any order by drawing, touch and accessibility dispatch
+                    if (childCount != drawingOrderChildCount || cardsGeneration != drawingOrderGeneration) {
+                        updateDrawingOrder(childCount);
+                    }
+                    return drawingOrder[i];
+                }
+            };
+
+    private boolean occlusionCullingEnabled;
+    private final RectF occludedBounds = new RectF();
+    private final RectF occluderBounds = new RectF();
+
+    private boolean recycledViewPoolSizing = true;
+
+    private final LayoutMetrics metrics = new LayoutMetrics();
+    private OnLayoutMetricsListener metricsListener;
+
     /**
      * A ViewUpdater is invoked whenever a visible/attached card is scrolled.
      */
@@ -59,6 +136,8 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
 
         /**
          * Called on view update (scroll, layout).
+         * Updaters may write the View or its {@link CardSliderLayoutManager#getCardTransform card transform},
+         * which is committed to the View after the updater. {@link DefaultViewUpdater} writes the transform.
          * @param view      Updating view
          * @param position  Position of card relative to the current active card position of the layout manager.
          *                  0 is active card. 1 is first right card, and -1 is first left (stacked) card.
@@ -66,9 +145,121 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
         void updateView(@NonNull View view, float position);
     }
 
+    /**
+     * A BatchViewUpdater is invoked once per scroll or layout pass with all attached cards,
+     * so neighbour-dependent values can be computed in one pass.
+     * Arrays are reused between calls, only first {@code count} elements are valid
+     * and must not be retained after the call.
+     */
+    public interface BatchViewUpdater {
+        /**
+         * Called when CardSliderLayoutManager initialized
+         */
+        void onLayoutManagerInitialized(@NonNull CardSliderLayoutManager lm);
+
+        /**
+         * Called on views update (scroll, layout).
+         * @param views     Attached cards, ordered from left to right.
+         * @param lefts     Decorated left edges of cards.
+         * @param positions Positions of cards relative to the current active card position of the layout manager.
+         *                  See {@link ViewUpdater#updateView}.
+         * @param count     Number of attached cards.
+         */
+        void updateViews(@NonNull View[] views, @NonNull int[] lefts, @NonNull float[] positions, int count);
+    }
+
+    /**
+     * A card, which dims itself, e.g. by an overlay or a tint drawn by the card, instead of
+     * the card View alpha. Implemented by card View or its ViewHolder.
+     * See {@link DefaultViewUpdater#setDimMode(int)}.
+     */
+    public interface DimmableCard {
+        /**
+         * Called when dim amount of the card changes.
+         * @param dim   Dim amount from 0 (not dimmed) to 1. Visually equal to the card alpha of {@code 1 - dim}
+         *              over the slider background. Updaters must keep the value within 0 to 1,
+         *              {@link DefaultViewUpdater} clamps it.
+         */
+        void setDim(float dim);
+    }
+
+    /**
+     * Receives {@link LayoutMetrics} after every layout and scroll pass.
+     */
+    public interface OnLayoutMetricsListener {
+        /**
+         * @param metrics   Metrics of the pass. The instance is reused, do not retain it.
+         */
+        void onLayoutMetrics(@NonNull LayoutMetrics metrics);
+    }
+
+    /**
+     * Invokes single-view {@link ViewUpdater} for each card of a batch, from left to right.
+     */
+    private static class ViewUpdaterAdapter implements BatchViewUpdater {
+
+        private final ViewUpdater updater;
+
+        ViewUpdaterAdapter(@NonNull ViewUpdater updater) {
+            this.updater = updater;
+        }
+
+        @Override
+        public void onLayoutManagerInitialized(@NonNull CardSliderLayoutManager lm) {
+            updater.onLayoutManagerInitialized(lm);
+        }
+
+        @Override
+        public void updateViews(@NonNull View[] views, @NonNull int[] lefts, @NonNull float[] positions, int count) {
+            for (int i = 0; i < count; i++) {
+                updater.updateView(views[i], positions[i]);
+            }
+        }
+    }
+
+    /**
+     * Layout params of cards, hold card's {@link CardTransform}.
+     */
+    public static class LayoutParams extends RecyclerView.LayoutParams {
+
+        final CardTransform transform = new CardTransform();
+
+        int boundPosition = RecyclerView.NO_POSITION;
+
+        boolean layered;
+        int savedLayerType;
+
+        boolean culled;
+
+        // Card generation, in which the card was scrapped by the layout pass to be attached again
+        int scrapGeneration = -1;
+
+        public LayoutParams(Context c, AttributeSet attrs) {
+            super(c, attrs);
+        }
+
+        public LayoutParams(int width, int height) {
+            super(width, height);
+        }
+
+        public LayoutParams(ViewGroup.MarginLayoutParams source) {
+            super(source);
+        }
+
+        public LayoutParams(ViewGroup.LayoutParams source) {
+            super(source);
+        }
+
+        public LayoutParams(RecyclerView.LayoutParams source) {
+            super(source);
+        }
+
+    }
+
     private static class SavedState implements Parcelable {
 
         int anchorPos;
+        int anchorOffset;
 
         SavedState() {
 
@@ -76,10 +267,12 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
 
         SavedState(Parcel in) {
             anchorPos = in.readInt();
+            anchorOffset = in.readInt();
         }
 
         public SavedState(SavedState other) {
             anchorPos = other.anchorPos;
+            anchorOffset = other.anchorOffset;
         }
 
         @Override
@@ -90,6 +283,7 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
         @Override
         public void writeToParcel(Parcel parcel, int i) {
             parcel.writeInt(anchorPos);
+            parcel.writeInt(anchorOffset);
         }
 
         public static final Parcelable.Creator<SavedState> CREATOR = new Parcelable.Creator<SavedState>() {
@@ -148,7 +342,7 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
                 a.recycle();
             }
 
-            final ViewUpdater viewUpdater = loadViewUpdater(context, viewUpdateClassName, attrs);
+            final BatchViewUpdater viewUpdater = loadViewUpdater(context, viewUpdateClassName, attrs);
             initialize(attrActiveCardLeft, attrCardWidth, attrCardsGap, viewUpdater);
         }
     }
@@ -164,12 +358,13 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
         initialize(activeCardLeft, cardWidth, cardsGap, null);
     }
 
-    private void initialize(int left, int width, float gap, @Nullable ViewUpdater updater) {
+    private void initialize(int left, int width, float gap, @Nullable BatchViewUpdater updater) {
         this.cardWidth = width;
         this.activeCardLeft = left;
         this.activeCardRight = activeCardLeft + cardWidth;
         this.activeCardCenter = activeCardLeft + ((this.activeCardRight - activeCardLeft) / 2);
         this.cardsGap = gap;
+        this.geometry = new CardGeometry(left, width, gap, LEFT_CARD_COUNT);
 
         this.viewUpdater = updater;
         if (this.viewUpdater == null) {
@@ -178,76 +373,196 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
         viewUpdater.onLayoutManagerInitialized(this);
     }
 
+    /**
+     * Sets the updater of attached cards. {@link BatchViewUpdater} implementations
+     * are invoked through their batch interface.
+     *
+     * @param updater   Updater, or {@code null} for {@link DefaultViewUpdater}.
+     */
+    public void setViewUpdater(@Nullable ViewUpdater updater) {
+        if (updater == null) {
+            setBatchViewUpdater(null);
+        } else if (updater instanceof BatchViewUpdater) {
+            setBatchViewUpdater((BatchViewUpdater) updater);
+        } else {
+            setBatchViewUpdater(new ViewUpdaterAdapter(updater));
+        }
+    }
+
+    /**
+     * Sets the batch updater of attached cards.
+     *
+     * @param updater   Updater, or {@code null} for {@link DefaultViewUpdater}.
+     */
+    public void setBatchViewUpdater(@Nullable BatchViewUpdater updater) {
+        viewUpdater = updater != null ? updater : new DefaultViewUpdater();
+        viewUpdater.onLayoutManagerInitialized(this);
+        requestLayout();
+    }
+
     @Override
     public RecyclerView.LayoutParams generateDefaultLayoutParams() {
-        return new RecyclerView.LayoutParams(
+        return new LayoutParams(
                 RecyclerView.LayoutParams.WRAP_CONTENT,
                 RecyclerView.LayoutParams.WRAP_CONTENT);
     }
 
     @Override
-    public void onLayoutChildren(RecyclerView.Recycler recycler, final RecyclerView.State state) {
-        if (getItemCount() == 0) {
-            removeAndRecycleAllViews(recycler);
-            return;
+    public RecyclerView.LayoutParams generateLayoutParams(Context c, AttributeSet attrs) {
+        return new LayoutParams(c, attrs);
+    }
+
+    @Override
+    public RecyclerView.LayoutParams generateLayoutParams(ViewGroup.LayoutParams lp) {
+        if (lp instanceof RecyclerView.LayoutParams) {
+            return new LayoutParams((RecyclerView.LayoutParams) lp);
+        } else if (lp instanceof ViewGroup.MarginLayoutParams) {
+            return new LayoutParams((ViewGroup.MarginLayoutParams) lp);
+        } else {
+            return new LayoutParams(lp);
         }
+    }
 
-        if (getChildCount() == 0 && state.isPreLayout()) {
-            return;
+    @Override
+    public boolean checkLayoutParams(RecyclerView.LayoutParams lp) {
+        return lp instanceof LayoutParams;
+    }
+
+    @Override
+    public void onLayoutChildren(RecyclerView.Recycler recycler, RecyclerView.State state) {
+        CardSliderTrace.beginSection(CardSliderTrace.ON_LAYOUT_CHILDREN);
+        try {
+            layoutChildren(recycler, state);
+        } finally {
+            CardSliderTrace.endSection();
         }
+    }
 
-        int anchorPos = getActiveCardPosition();
+    private void layoutChildren(RecyclerView.Recycler recycler, RecyclerView.State state) {
+        final boolean measure = metricsListener != null;
+        if (measure) {
+            metrics.reset(LayoutMetrics.PASS_LAYOUT);
+        }
 
-        if (state.isPreLayout()) {
-            final LinkedList<Integer> removed = new LinkedList<>();
-            for (int i = 0, cnt = getChildCount(); i < cnt; i++) {
-                final View child = getChildAt(i);
-                final boolean isRemoved = ((RecyclerView.LayoutParams)child.getLayoutParams()).isItemRemoved();
-                if (isRemoved) {
-                    removed.add(getPosition(child));
-                }
+        if (getItemCount() == 0) {
+            if (measure) {
+                metrics.recycledCount = getChildCount();
             }
+            releaseCards();
+            removeAndRecycleAllViews(recycler);
+            anchorLaidOut = false;
+            knownItemCount = 0;
+            updateActiveCard();
+            onPassFinished();
+            return;
+        }
 
-            if (removed.contains(anchorPos)) {
-                final int first = removed.getFirst();
-                final int last = removed.getLast();
+        if (state.isPreLayout()) {
+            // Predictive item animations are not supported, see supportsPredictiveItemAnimations
+            return;
+        }
 
-                final int left = first - 1;
-                final int right = last == getItemCount() + removed.size() - 1 ? RecyclerView.NO_POSITION : last;
+        if (scrollRequestedPosition != RecyclerView.NO_POSITION) {
+            anchorPosition = scrollRequestedPosition;
+            anchorOffset = scrollRequestedOffset;
+        }
 
-                anchorPos = Math.max(left, right);
-            }
+        final int lastPos = getItemCount() - 1;
+        if (anchorPosition >= lastPos) {
+            anchorPosition = lastPos;
+            anchorOffset = 0;
+        }
 
-            scrollRequestedPosition = anchorPos;
+        // Cards attached again from the scrap, e.g. when only bound content changed, keep their layers,
+        // culling and committed transforms, see onCardAttached
+        for (int i = 0, cnt = getChildCount(); i < cnt; i++) {
+            ((LayoutParams) getChildAt(i).getLayoutParams()).scrapGeneration = cardsGeneration;
         }
 
         detachAndScrapAttachedViews(recycler);
-        fill(anchorPos, recycler, state);
 
-        if (cardsXCoords.size() != 0) {
-            layoutByCoords();
+        final long fillStart = measure ? System.nanoTime() : 0;
+        fill(recycler, state);
+        if (measure) {
+            metrics.fillTime = System.nanoTime() - fillStart;
         }
 
-        if (state.isPreLayout()) {
-            recyclerView.postOnAnimationDelayed(new Runnable() {
-                @Override
-                public void run() {
-                    updateViewScale();
-                }
-            }, 415);
-        } else {
-            updateViewScale();
+        // Scrapped cards, which are not attached again, go to the pool
+        final List<RecyclerView.ViewHolder> scrap = recycler.getScrapList();
+        for (int i = 0, cnt = scrap.size(); i < cnt; i++) {
+            releaseCard(scrap.get(i).itemView);
         }
+
+        anchorLaidOut = true;
+        knownItemCount = getItemCount();
+
+        updateActiveCard();
+        updateCardLayers();
+        updateViewScale(false);
+
+        // Item animations of adapter changes will run, see onLayoutCompleted
+        itemAnimationsPending = state.willRunSimpleAnimations();
+
+        onPassFinished();
     }
 
+    /**
+     * Anchor is moved by adapter change callbacks, so cards are laid out at their new places
+     * by a single layout pass. Cards, which enter the window because of a change, have no pre-layout
+     * places then, and item animators fade them in at their new places.
+     */
     @Override
     public boolean supportsPredictiveItemAnimations() {
-        return true;
+        return false;
+    }
+
+    @Override
+    public void onLayoutCompleted(RecyclerView.State state) {
+        super.onLayoutCompleted(state);
+
+        if (!itemAnimationsPending) {
+            return;
+        }
+        itemAnimationsPending = false;
+
+        final RecyclerView view = recyclerView;
+        if (view == null || view.getItemAnimator() instanceof CardItemAnimator) {
+            return;
+        }
+
+        // Other animators change card View properties, so transforms are committed again when they finish.
+        // Animations are started on the next animation frame, after layout is completed.
+        view.postOnAnimation(new Runnable() {
+            @Override
+            public void run() {
+                final RecyclerView.ItemAnimator animator = view.getItemAnimator();
+                if (animator == null) {
+                    updateViewScale(true);
+                    return;
+                }
+
+                animator.isRunning(new RecyclerView.ItemAnimator.ItemAnimatorFinishedListener() {
+                    @Override
+                    public void onAnimationsFinished() {
+                        if (view.getLayoutManager() == CardSliderLayoutManager.this) {
+                            updateViewScale(true);
+                        }
+                    }
+                });
+            }
+        });
     }
 
     @Override
     public void onAdapterChanged(RecyclerView.Adapter oldAdapter, RecyclerView.Adapter newAdapter) {
         removeAllViews();
+        anchorPosition = 0;
+        anchorOffset = 0;
+        anchorLaidOut = false;
+        knownItemCount = 0;
+        updateActiveCard();
+        fastAttachedFirst = RecyclerView.NO_POSITION;
+        fastAttachedLast = RecyclerView.NO_POSITION;
     }
 
     @Override
@@ -262,6 +577,29 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
         }
 
         scrollRequestedPosition = position;
+        scrollRequestedOffset = 0;
+        requestLayout();
+    }
+
+    /**
+     * Scrolls to the card at position, scrolled by {@code offset} pixels from its resting place
+     * towards the left stack. Does not request layout if the slider is already at the place.
+     *
+     * @param position  Card adapter position.
+     * @param offset    Scroll offset from 0 to card width exclusive, see {@link #getAnchorOffset()}.
+     */
+    public void scrollToPositionWithOffset(int position, int offset) {
+        if (position < 0 || position >= getItemCount()) {
+            return;
+        }
+
+        final int anchorOffset = position == getItemCount() - 1 ? 0 : Math.max(0, Math.min(cardWidth - 1, offset));
+        if (getChildCount() != 0 && position == getAnchorPosition() && anchorOffset == getAnchorOffset()) {
+            return;
+        }
+
+        scrollRequestedPosition = position;
+        scrollRequestedOffset = anchorOffset;
         requestLayout();
     }
 
@@ -269,22 +607,37 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
     public int scrollHorizontallyBy(int dx, RecyclerView.Recycler recycler, RecyclerView.State state) {
         scrollRequestedPosition = RecyclerView.NO_POSITION;
 
-        int delta;
+        // Card places are derived from the anchor, so any delta is applied in one call
+        final int delta;
         if (dx < 0) {
-            delta = scrollRight(Math.max(dx, -cardWidth));
+            CardSliderTrace.beginSection(CardSliderTrace.SCROLL_RIGHT);
+            delta = scrollRight(dx);
+            CardSliderTrace.endSection();
         } else {
+            CardSliderTrace.beginSection(CardSliderTrace.SCROLL_LEFT);
             delta = scrollLeft(dx);
+            CardSliderTrace.endSection();
         }
 
-        fill(getActiveCardPosition(), recycler, state);
-        updateViewScale();
+        lastScrollDelta = delta;
+        updateActiveCard();
 
-        cardsXCoords.clear();
-        for (int i = 0, cnt = getChildCount(); i < cnt; i++) {
-            final View view = getChildAt(i);
-            cardsXCoords.put(getPosition(view), getDecoratedLeft(view));
+        final boolean measure = metricsListener != null;
+        if (measure) {
+            metrics.reset(LayoutMetrics.PASS_SCROLL);
+            metrics.scrollDelta = delta;
+        }
+
+        final long fillStart = measure ? System.nanoTime() : 0;
+        fill(recycler, state);
+        if (measure) {
+            metrics.fillTime = System.nanoTime() - fillStart;
         }
 
+        updateCardLayers();
+        updateViewScale(false);
+        onPassFinished();
+
         return delta;
     }
 
@@ -304,18 +657,170 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
         startSmoothScroll(scroller);
     }
 
+    @Override
+    public void collectAdjacentPrefetchPositions(int dx, int dy, RecyclerView.State state,
+                                                 LayoutPrefetchRegistry layoutPrefetchRegistry) {
+        final int childCount = getChildCount();
+        if (dx == 0 || childCount == 0 || prefetchItemCount == 0) {
+            return;
+        }
+
+        // Cards passed at high speed are attached only for a few frames, do not bind them in advance
+        if (isFastScrolling()) {
+            return;
+        }
+
+        final int itemCount = state.getItemCount();
+
+        if (dx > 0) {
+            // Right cards move with full scroll speed, next card is added by fillRight
+            // as soon as the last attached card leaves the "getWidth() + cardWidth" border.
+            final View lastView = getChildAt(childCount - 1);
+            final int lastPos = getPosition(lastView);
+            final int distance = Math.max(0, getDecoratedRight(lastView) - (getWidth() + cardWidth));
+
+            for (int i = 1; i <= prefetchItemCount && lastPos + i < itemCount; i++) {
+                layoutPrefetchRegistry.addPosition(lastPos + i, distance + (i - 1) * cardWidth);
+            }
+        } else {
+            // Stacked cards: fillLeft keeps a fixed number of cards left of the anchor, so next left card
+            // is added when the anchor moves to the previous card, i.e. after the anchor offset is scrolled back.
+            // Each next card needs one more card width of scroll.
+            final int firstPos = getPosition(getChildAt(0));
+            final int distance = anchorOffset;
+
+            for (int i = 1; i <= prefetchItemCount && firstPos - i >= 0; i++) {
+                layoutPrefetchRegistry.addPosition(firstPos - i, distance + (i - 1) * cardWidth);
+            }
+        }
+    }
+
+    @Override
+    public void collectInitialPrefetchPositions(int adapterItemCount, LayoutPrefetchRegistry layoutPrefetchRegistry) {
+        if (adapterItemCount == 0 || initialPrefetchItemCount == 0) {
+            return;
+        }
+
+        final int anchorPos = Math.min(adapterItemCount - 1, getAnchorPosition());
+
+        final int first = Math.max(0, anchorPos - LEFT_CARD_COUNT - 1);
+        final int last = Math.min(adapterItemCount - 1, anchorPos + initialPrefetchItemCount - 1);
+        for (int pos = first; pos <= last; pos++) {
+            layoutPrefetchRegistry.addPosition(pos, 0);
+        }
+    }
+
+    @Override
+    public void onScrollStateChanged(int state) {
+        scrollState = state;
+        if (state == RecyclerView.SCROLL_STATE_IDLE) {
+            lastScrollDelta = 0;
+            notifyFastAttachedCards();
+            removeCardLayers();
+        } else {
+            updateCardLayers();
+        }
+    }
+
+    /**
+     * Cards inserted before or at the anchor shift it, so the same cards stay at their places.
+     * Until cards are laid out after the slider was empty, insertions keep the anchor, e.g. first card
+     * or restored position, as no card is shown at the anchor yet.
+     */
+    @Override
+    public void onItemsAdded(RecyclerView recyclerView, int positionStart, int itemCount) {
+        knownItemCount += itemCount;
+        if (!anchorLaidOut) {
+            updateActiveCard();
+            return;
+        }
+
+        if (positionStart <= anchorPosition) {
+            anchorPosition += itemCount;
+        }
+
+        if (scrollRequestedPosition != RecyclerView.NO_POSITION && positionStart <= scrollRequestedPosition) {
+            scrollRequestedPosition += itemCount;
+        }
+
+        updateActiveCard();
+    }
+
+    /**
+     * Anchor follows cards removed before it. If the anchor card itself is removed,
+     * the next card takes its place at rest.
+     */
     @Override
     public void onItemsRemoved(RecyclerView recyclerView, int positionStart, int count) {
-        final int anchorPos = getActiveCardPosition();
-        if (positionStart + count <= anchorPos) {
-            scrollRequestedPosition = anchorPos - 1;
+        knownItemCount = Math.max(0, knownItemCount - count);
+        if (knownItemCount == 0) {
+            // Slider is empty, cards inserted in the same frame are laid out from the first one
+            anchorLaidOut = false;
+        }
+
+        final int lastPos = Math.max(0, getItemCount() - 1);
+
+        if (isRemoved(anchorPosition, positionStart, count)) {
+            anchorOffset = 0;
+        }
+        anchorPosition = getPositionAfterRemove(anchorPosition, positionStart, count);
+        if (anchorPosition > lastPos) {
+            anchorPosition = lastPos;
+            anchorOffset = 0;
+        }
+
+        if (scrollRequestedPosition != RecyclerView.NO_POSITION) {
+            if (isRemoved(scrollRequestedPosition, positionStart, count)) {
+                scrollRequestedOffset = 0;
+            }
+            scrollRequestedPosition = getPositionAfterRemove(scrollRequestedPosition, positionStart, count);
+            if (scrollRequestedPosition > lastPos) {
+                scrollRequestedPosition = lastPos;
+                scrollRequestedOffset = 0;
+            }
+        }
+
+        updateActiveCard();
+    }
+
+    /**
+     * Anchor follows a card moved across it. If the anchor card itself is moved,
+     * its neighbour takes its place at rest, so the slider does not jump after the card.
+     */
+    @Override
+    public void onItemsMoved(RecyclerView recyclerView, int from, int to, int itemCount) {
+        if (anchorPosition == from) {
+            anchorOffset = 0;
+        } else {
+            anchorPosition = getPositionAfterMove(anchorPosition, from, to, itemCount);
+        }
+
+        if (scrollRequestedPosition == from) {
+            scrollRequestedOffset = 0;
+        } else if (scrollRequestedPosition != RecyclerView.NO_POSITION) {
+            scrollRequestedPosition = getPositionAfterMove(scrollRequestedPosition, from, to, itemCount);
+        }
+
+        updateActiveCard();
+    }
+
+    /**
+     * Data set changes keep the anchor, it is limited to the new item count by the next layout.
+     */
+    @Override
+    public void onItemsChanged(RecyclerView recyclerView) {
+        knownItemCount = getItemCount();
+        if (knownItemCount == 0) {
+            anchorLaidOut = false;
         }
+        updateActiveCard();
     }
 
     @Override
     public Parcelable onSaveInstanceState() {
         SavedState state = new SavedState();
-        state.anchorPos = getActiveCardPosition();
+        state.anchorPos = getAnchorPosition();
+        state.anchorOffset = getAnchorOffset();
         return state;
     }
 
@@ -324,6 +829,7 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
         if (parcelable instanceof SavedState) {
             SavedState state = (SavedState) parcelable;
             scrollRequestedPosition = state.anchorPos;
+            scrollRequestedOffset = state.anchorOffset;
             requestLayout();
         }
     }
@@ -332,12 +838,33 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
     public void onAttachedToWindow(RecyclerView view) {
         super.onAttachedToWindow(view);
         recyclerView = view;
+
+        if (!elevationEnabled) {
+            view.setChildDrawingOrderCallback(drawingOrderCallback);
+        }
     }
 
     @Override
     public void onDetachedFromWindow(RecyclerView view, RecyclerView.Recycler recycler) {
         super.onDetachedFromWindow(view, recycler);
         recyclerView = null;
+
+        if (!elevationEnabled) {
+            view.setChildDrawingOrderCallback(null);
+        }
+
+        if (recycleChildrenOnDetach) {
+            // Anchor is kept, so cards are laid out at the same place when RecyclerView is attached again
+            final int position = getAnchorPosition();
+            final int offset = getAnchorOffset();
+            scrollRequestedPosition = position;
+            scrollRequestedOffset = offset;
+
+            releaseCards();
+            removeAndRecycleAllViews(recycler);
+            recycler.clear();
+            updateActiveCard();
+        }
     }
 
     /**
@@ -345,33 +872,53 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
      */
     public int getActiveCardPosition() {
         if (scrollRequestedPosition != RecyclerView.NO_POSITION) {
-            return scrollRequestedPosition;
-        } else {
-            int result = RecyclerView.NO_POSITION;
-
-            View biggestView = null;
-            float lastScaleX = 0f;
-
-            for (int i = 0, cnt = getChildCount(); i < cnt; i++) {
-                final View child = getChildAt(i);
-                final int viewLeft = getDecoratedLeft(child);
-                if (viewLeft >= activeCardRight) {
-                    continue;
-                }
-
-                final float scaleX = ViewCompat.getScaleX(child);
-                if (lastScaleX < scaleX && viewLeft < activeCardCenter) {
-                    lastScaleX = scaleX;
-                    biggestView = child;
-                }
-            }
-
-            if (biggestView != null) {
-                result = getPosition(biggestView);
-            }
-
-            return result;
+            return getActivePosition(scrollRequestedPosition, scrollRequestedOffset);
         }
+
+        return activeCardPosition;
+    }
+
+    /**
+     * @return Offset of active card from its resting place in cards.
+     *         0 when active card is in place, positive while active card moves into the left stack
+     *         and negative while it moves to the right. Stays within -0.5 to 0.5, as the next card
+     *         becomes active when it passes active card center.
+     */
+    public float getActiveCardOffset() {
+        return activeCardOffset;
+    }
+
+    /**
+     * @return Position of the anchor card, which is the rightmost card not right of the active card place.
+     *         Together with {@link #getAnchorOffset()} defines exact scroll position of the slider.
+     */
+    public int getAnchorPosition() {
+        if (scrollRequestedPosition != RecyclerView.NO_POSITION) {
+            return scrollRequestedPosition;
+        }
+
+        return anchorPosition;
+    }
+
+    /**
+     * @return Scroll distance of the anchor card from its resting place in pixels, from 0 to card width exclusive.
+     */
+    public int getAnchorOffset() {
+        if (scrollRequestedPosition != RecyclerView.NO_POSITION) {
+            return scrollRequestedOffset;
+        }
+
+        return anchorOffset;
+    }
+
+    /**
+     * @param position  Card adapter position.
+     * @return Horizontal scroll distance, after which the card at position is active and at rest.
+     */
+    public int getScrollDistanceToPosition(int position) {
+        final long scrollOffset = (long) getAnchorPosition() * cardWidth + getAnchorOffset();
+        final long distance = (long) position * cardWidth - scrollOffset;
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, distance));
     }
 
     @Nullable
@@ -420,41 +967,363 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
         return cardsGap;
     }
 
-    public LinearSmoothScroller getSmoothScroller(final RecyclerView recyclerView) {
-        return new LinearSmoothScroller(recyclerView.getContext()) {
-            @Override
-            public int calculateDxToMakeVisible(View view, int snapPreference) {
-                final int viewStart = getDecoratedLeft(view);
-                if (viewStart > activeCardLeft) {
-                    return activeCardLeft - viewStart;
-                } else {
-                    int delta = 0;
-                    int topViewPos = 0;
-
-                    final View topView = getTopView();
-                    if (topView != null) {
-                        topViewPos = getPosition(topView);
-                        if (topViewPos != getTargetPosition()) {
-                            final int topViewLeft = getDecoratedLeft(topView);
-                            if (topViewLeft >= activeCardLeft && topViewLeft < activeCardRight) {
-                                delta = activeCardRight - topViewLeft;
-                            }
-                        }
-                    }
+    /**
+     * Transform record of the card. Updaters write card transform into the record,
+     * and the layout manager commits it to the card View after updaters are invoked,
+     * skipping property writes with unchanged values.
+     *
+     * @param view  Attached card view
+     */
+    @NonNull
+    public CardTransform getCardTransform(@NonNull View view) {
+        return ((LayoutParams) view.getLayoutParams()).transform;
+    }
 
-                    return delta + (cardWidth) * Math.max(0, topViewPos - getTargetPosition() - 1);
-                }
+    /**
+     * @param view  Attached card view
+     * @return Card view or its ViewHolder if it implements {@link DimmableCard}, {@code null} otherwise.
+     */
+    @Nullable
+    public DimmableCard getDimmableCard(@NonNull View view) {
+        if (view instanceof DimmableCard) {
+            return (DimmableCard) view;
+        }
+
+        final RecyclerView.ViewHolder holder = recyclerView != null ? recyclerView.getChildViewHolder(view) : null;
+        return holder instanceof DimmableCard ? (DimmableCard) holder : null;
+    }
+
+    /**
+     * @return Number of card View property writes performed since last {@link #resetTransformCounters()}.
+     */
+    public long getTransformWriteCount() {
+        return transformWriteCount;
+    }
+
+    /**
+     * @return Number of card View property writes skipped as unchanged
+     *         since last {@link #resetTransformCounters()}.
+     */
+    public long getSkippedTransformWriteCount() {
+        return skippedTransformWriteCount;
+    }
+
+    public void resetTransformCounters() {
+        transformWriteCount = 0;
+        skippedTransformWriteCount = 0;
+    }
+
+    /**
+     * Sets the listener of per pass layout metrics. Metrics are not collected without listener.
+     *
+     * @param listener  Listener, or {@code null} to stop metrics collection.
+     */
+    public void setOnLayoutMetricsListener(@Nullable OnLayoutMetricsListener listener) {
+        metricsListener = listener;
+    }
+
+    /**
+     * @return Card positioning and transition math of this layout manager.
+     */
+    @NonNull
+    public CardGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * @return Number of cards, which can be attached at once with the current RecyclerView width,
+     *         or display width before the first layout. See {@link CardGeometry#getMaxAttachedCardCount(int)}.
+     */
+    public int getMaxAttachedCardCount() {
+        final int width = getWidth() > 0 ? getWidth() : Resources.getSystem().getDisplayMetrics().widthPixels;
+        return geometry.getMaxAttachedCardCount(width);
+    }
+
+    /**
+     * @return {@code false} if cards are stacked by drawing order instead of Z. Default value is {@code true}.
+     */
+    public boolean isElevationEnabled() {
+        return elevationEnabled;
+    }
+
+    /**
+     * Sets whether card Z written by updaters is applied to card Views. Animated Z makes RenderThread
+     * reorder cards and recompute their shadows every frame. When disabled, Z is not applied,
+     * and cards are drawn in the order of their Z by RecyclerView child drawing order instead,
+     * so cards are stacked the same way. Shadows are static then: fixed card elevation
+     * (e.g. {@code cardElevation} of CardView) or shadows drawn by card background, e.g. a nine-patch.
+     *
+     * @param enabled   {@code false} to stack cards by drawing order.
+     */
+    public void setElevationEnabled(boolean enabled) {
+        if (elevationEnabled == enabled) {
+            return;
+        }
+        elevationEnabled = enabled;
+
+        for (int i = 0, cnt = getChildCount(); i < cnt; i++) {
+            final View view = getChildAt(i);
+            getCardTransform(view).invalidate();
+            if (!enabled) {
+                ViewCompat.setTranslationZ(view, 0);
             }
+        }
 
-            @Override
-            protected float calculateSpeedPerPixel(DisplayMetrics displayMetrics) {
-                return 0.5f;
+        if (recyclerView != null) {
+            recyclerView.setChildDrawingOrderCallback(enabled ? null : drawingOrderCallback);
+        }
+        cardsGeneration++;
+        requestLayout();
+    }
+
+    /**
+     * @return Maximum number of cards in hardware layers during scroll, or 0 if cards are not promoted
+     *         to hardware layers. Default value is 0.
+     */
+    public int getHardwareLayerCardCount() {
+        return hardwareLayerCardCount;
+    }
+
+    /**
+     * Enables promotion of cards to hardware layers while the slider is scrolled or snapped.
+     * Content of a layered card is drawn once into its layer, and scale, alpha and translation changes
+     * of every frame only recomposite the layer. Layers are removed when scroll stops.
+     * Cards closest to the active card are promoted first, right cards before stacked ones.
+     * Each layer takes GPU memory of the card size, so the number of layered cards is limited.
+     * Do not enable it if card content changes while scrolling, as every change redraws the layer.
+     *
+     * @param cardCount Maximum number of layered cards, or 0 to disable hardware layers.
+     */
+    public void setHardwareLayerCardCount(int cardCount) {
+        if (cardCount < 0) {
+            throw new IllegalArgumentException("Hardware layer card count must not be negative");
+        }
+
+        removeCardLayers();
+        this.hardwareLayerCardCount = cardCount;
+        updateCardLayers();
+    }
+
+    /**
+     * @return {@code true} if fully covered stacked cards are hidden. Default value is {@code false}.
+     */
+    public boolean isOcclusionCullingEnabled() {
+        return occlusionCullingEnabled;
+    }
+
+    /**
+     * Enables hiding of stacked cards, which are fully covered by a card drawn above them, after every
+     * layout and scroll pass. Hidden cards are {@link View#INVISIBLE}, so neither they nor their shadows
+     * are drawn. A card covers others only if it is visible with alpha 1, so enable culling only if
+     * cards are opaque within their bounds, i.e. have opaque background and no transparent corners
+     * reaching the covered cards.
+     *
+     * @param enabled   {@code true} to hide covered stacked cards.
+     */
+    public void setOcclusionCullingEnabled(boolean enabled) {
+        this.occlusionCullingEnabled = enabled;
+        if (!enabled) {
+            for (int i = 0, cnt = getChildCount(); i < cnt; i++) {
+                setCardCulled(getChildAt(i), false);
             }
+        } else {
+            requestLayout();
+        }
+    }
 
-        };
+    /**
+     * @return {@code true} if RecycledViewPool is sized by this layout manager. Default value is {@code true}.
+     */
+    public boolean isRecycledViewPoolSizing() {
+        return recycledViewPoolSizing;
+    }
+
+    /**
+     * Enables sizing of RecycledViewPool. When a card of a view type is attached, maximum number of
+     * recycled views of the type is raised to {@link #getMaxAttachedCardCount()}, so all attached cards
+     * can be recycled at once (e.g. by data set change) without being destroyed. Size is never set
+     * below RecyclerView's default of 5, and is only raised: sliders sharing a pool never lower the size
+     * set by each other. Sizes set by the app are not known to the layout manager, disable sizing
+     * if pool sizes are managed by the app, e.g. for a pool shared by rows of an outer list.
+     *
+     * @param enabled   {@code false} to leave RecycledViewPool as is.
+     */
+    public void setRecycledViewPoolSizing(boolean enabled) {
+        this.recycledViewPoolSizing = enabled;
+    }
+
+    /**
+     * Creates card ViewHolders of the view type and puts them into the RecycledViewPool
+     * of RecyclerView, so the first layout and the first scroll do not inflate cards.
+     * Call after the adapter is set and before the first layout, e.g. in {@code Activity.onCreate()}.
+     * Holders are created on the calling thread.
+     *
+     * @param recyclerView  RecyclerView of this layout manager, with adapter set.
+     * @param viewType      View type of cards.
+     * @param count         Number of holders the pool should contain, e.g. {@link #getMaxAttachedCardCount()}
+     *                      plus {@link #getPrefetchItemCount()}. Holders already in the pool are counted.
+     *                      Pool size is raised to {@code count}, unless {@link #setRecycledViewPoolSizing pool
+     *                      sizing} is disabled. Then prewarming stops when the pool is full.
+     * @return Number of created holders kept by the pool.
+     */
+    public int prewarmRecycledViewPool(@NonNull RecyclerView recyclerView, int viewType, int count) {
+        final RecyclerView.Adapter adapter = recyclerView.getAdapter();
+        if (adapter == null) {
+            throw new IllegalStateException("Adapter must be set before pool prewarming");
+        }
+
+        final RecyclerView.RecycledViewPool pool = recyclerView.getRecycledViewPool();
+        if (recycledViewPoolSizing) {
+            raiseRecycledViewPoolSize(pool, viewType, count);
+        }
+
+        int created = 0;
+        for (int poolCount = pool.getRecycledViewCount(viewType); poolCount < count; poolCount++) {
+            pool.putRecycledView(adapter.createViewHolder(recyclerView, viewType));
+            if (pool.getRecycledViewCount(viewType) == poolCount) {
+                // Pool is full, holder is discarded
+                break;
+            }
+            created++;
+        }
+
+        return created;
+    }
+
+    /**
+     * @return number of cards prefetched ahead of the scroll direction. Default value is 1.
+     */
+    public int getPrefetchItemCount() {
+        return prefetchItemCount;
+    }
+
+    /**
+     * Sets how many cards will be prefetched (created and bound by RecyclerView's GapWorker
+     * in idle frame time) ahead of the scroll direction: right cards when scrolling forward and
+     * stacked left cards when scrolling back. Set 0 to disable prefetch.
+     *
+     * @param prefetchItemCount Number of cards to prefetch. Default value is 1.
+     */
+    public void setPrefetchItemCount(int prefetchItemCount) {
+        if (prefetchItemCount < 0) {
+            throw new IllegalArgumentException("Prefetch item count must not be negative");
+        }
+        this.prefetchItemCount = prefetchItemCount;
+    }
+
+    /**
+     * @return Number of cards prefetched when RecyclerView is prepared in advance, e.g. as a row of
+     *         an outer list. Default value is 2.
+     */
+    public int getInitialPrefetchItemCount() {
+        return initialPrefetchItemCount;
+    }
+
+    /**
+     * Sets how many cards, starting with the active card, will be prefetched together with stacked cards
+     * when this slider is nested in a RecyclerView, which prefetches the row containing it.
+     * Usually it is the number of cards visible on the right of the active card plus one.
+     * Set 0 to disable initial prefetch.
+     *
+     * @param itemCount Number of cards to prefetch. Default value is 2.
+     */
+    public void setInitialPrefetchItemCount(int itemCount) {
+        if (itemCount < 0) {
+            throw new IllegalArgumentException("Initial prefetch item count must not be negative");
+        }
+        this.initialPrefetchItemCount = itemCount;
+    }
+
+    /**
+     * @return {@code true} if cards are recycled when RecyclerView is detached from window. Default value is {@code false}.
+     */
+    public boolean getRecycleChildrenOnDetach() {
+        return recycleChildrenOnDetach;
+    }
+
+    /**
+     * Sets whether cards are recycled when RecyclerView is detached from window.
+     * Enable it when sliders are rows of an outer list and share one RecycledViewPool,
+     * so cards of rows scrolled out of the list are reused by other rows.
+     * The slider keeps its scroll position and is laid out at the same place when attached again.
+     *
+     * @param recycleChildrenOnDetach   {@code true} to recycle cards on detach.
+     */
+    public void setRecycleChildrenOnDetach(boolean recycleChildrenOnDetach) {
+        this.recycleChildrenOnDetach = recycleChildrenOnDetach;
+    }
+
+    /**
+     * @return {@code true} if the slider is settling (after fling or by smooth scroll) with the speed
+     *         of at least {@link #getFastScrollThreshold()} pixels per frame.
+     */
+    public boolean isFastScrolling() {
+        return fastScrollThreshold > 0
+                && scrollState == RecyclerView.SCROLL_STATE_SETTLING
+                && Math.abs(lastScrollDelta) >= fastScrollThreshold;
+    }
+
+    /**
+     * @return Fast scroll speed in pixels per frame, or 0 if fast scroll is not tracked. Default value is 0.
+     */
+    public int getFastScrollThreshold() {
+        return fastScrollThreshold;
+    }
+
+    /**
+     * Sets the speed from which settling scroll is considered fast, see {@link #isFastScrolling()}.
+     * During fast scroll cards are not prefetched, and adapter may bind cards cheaply
+     * (e.g. skip image decoding) if {@link #isFastScrolling()} returns {@code true}.
+     * When scroll stops, cards attached during fast scroll are notified as changed
+     * with {@link #PAYLOAD_FAST_SCROLL_FINISHED} payload, so adapter can complete binding.
+     *
+     * For example, {@code cardWidth / 8} means that a card passes its own width in 8 frames or less.
+     *
+     * @param fastScrollThreshold   Speed in pixels per frame, or 0 to disable fast scroll tracking.
+     */
+    public void setFastScrollThreshold(int fastScrollThreshold) {
+        if (fastScrollThreshold < 0) {
+            throw new IllegalArgumentException("Fast scroll threshold must not be negative");
+        }
+        this.fastScrollThreshold = fastScrollThreshold;
+    }
+
+    /**
+     * @return Number of cards, beyond which smooth scroll jumps. Default value is 0, smooth scroll does not jump.
+     */
+    public int getSmoothScrollJumpThreshold() {
+        return smoothScrollJumpThreshold;
+    }
+
+    /**
+     * Sets the smooth scroll distance in cards, beyond which {@link #smoothScrollToPosition} jumps
+     * to the card {@code threshold} cards before the target, and animates only the rest of the way.
+     * Skipped cards are neither laid out nor bound.
+     *
+     * @param threshold Number of cards, or 0 to always animate the whole way.
+     */
+    public void setSmoothScrollJumpThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Smooth scroll jump threshold must not be negative");
+        }
+        this.smoothScrollJumpThreshold = threshold;
     }
 
-    private ViewUpdater loadViewUpdater(Context context, String className, AttributeSet attrs) {
+    /**
+     * @return Smooth scroller of {@link #smoothScrollToPosition}. The scroller is created once and reused.
+     */
+    public LinearSmoothScroller getSmoothScroller(final RecyclerView recyclerView) {
+        if (smoothScroller == null) {
+            smoothScroller = new CardScroller(recyclerView.getContext());
+        } else {
+            smoothScroller.cancel();
+        }
+
+        smoothScroller.setJumpThreshold(smoothScrollJumpThreshold);
+        return smoothScroller;
+    }
+
+    private BatchViewUpdater loadViewUpdater(Context context, String className, AttributeSet attrs) {
         if (className == null || className.trim().length() == 0) {
             return null;
         }
@@ -468,17 +1337,24 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
             fullClassName = CardSliderLayoutManager.class.getPackage().getName() + '.' + className;
         }
 
-        ViewUpdater updater;
+        BatchViewUpdater updater;
         try {
             final ClassLoader classLoader = context.getClassLoader();
 
-            final Class<? extends ViewUpdater> viewUpdaterClass =
-                    classLoader.loadClass(fullClassName).asSubclass(ViewUpdater.class);
-            final Constructor<? extends ViewUpdater> constructor =
-                    viewUpdaterClass.getConstructor();
+            final Class<?> loadedClass = classLoader.loadClass(fullClassName);
+            if (BatchViewUpdater.class.isAssignableFrom(loadedClass)) {
+                final Constructor<? extends BatchViewUpdater> constructor =
+                        loadedClass.asSubclass(BatchViewUpdater.class).getConstructor();
 
-            constructor.setAccessible(true);
-            updater = constructor.newInstance();
+                constructor.setAccessible(true);
+                updater = constructor.newInstance();
+            } else {
+                final Constructor<? extends ViewUpdater> constructor =
+                        loadedClass.asSubclass(ViewUpdater.class).getConstructor();
+
+                constructor.setAccessible(true);
+                updater = new ViewUpdaterAdapter(constructor.newInstance());
+            }
         } catch (NoSuchMethodException e) {
             throw new IllegalStateException(attrs.getPositionDescription() +
                     ": Error creating LayoutManager " + className, e);
@@ -503,218 +1379,560 @@ public class CardSliderLayoutManager extends RecyclerView.LayoutManager
     }
 
     private int scrollRight(int dx) {
-        final int childCount = getChildCount();
+        if (getChildCount() == 0) {
+            return 0;
+        }
 
-        if (childCount == 0) {
+        final long scrollOffset = (long) anchorPosition * cardWidth + anchorOffset;
+        final int delta = (int) Math.max(dx, -scrollOffset);
+        offsetAnchor(delta);
+        return delta;
+    }
+
+    private int scrollLeft(int dx) {
+        if (getChildCount() == 0) {
             return 0;
         }
 
-        final View rightestView = getChildAt(childCount - 1);
-        final int deltaBorder = activeCardLeft + getPosition(rightestView) * cardWidth;
-        final int delta = getAllowedRightDelta(rightestView, dx, deltaBorder);
+        final long scrollOffset = (long) anchorPosition * cardWidth + anchorOffset;
+        final long maxScrollOffset = (long) (getItemCount() - 1) * cardWidth;
+        final int delta = (int) Math.max(0, Math.min(dx, maxScrollOffset - scrollOffset));
+        offsetAnchor(delta);
+        return delta;
+    }
 
-        final LinkedList<View> rightViews = new LinkedList<>();
-        final LinkedList<View> leftViews = new LinkedList<>();
+    /**
+     * Moves anchor by {@code delta} pixels of scroll and moves attached cards to their places.
+     */
+    private void offsetAnchor(int delta) {
+        final long scrollOffset = (long) anchorPosition * cardWidth + anchorOffset + delta;
+        anchorPosition = (int) (scrollOffset / cardWidth);
+        anchorOffset = (int) (scrollOffset % cardWidth);
 
-        for (int i = childCount - 1; i >= 0; i--) {
+        for (int i = 0, cnt = getChildCount(); i < cnt; i++) {
             final View view = getChildAt(i);
-            final int viewLeft = getDecoratedLeft(view);
+            final int relativePosition = getPosition(view) - anchorPosition;
 
-            if (viewLeft >= activeCardRight) {
-                rightViews.add(view);
-            } else {
-                leftViews.add(view);
+            // After a long scroll, cards far from the anchor are only recycled by fill
+            if (relativePosition < -LEFT_CARD_COUNT - 1 || relativePosition > cnt) {
+                continue;
             }
+
+            final int viewLeft = geometry.getCardLeft(relativePosition, anchorOffset);
+            view.offsetLeftAndRight(viewLeft - getDecoratedLeft(view));
         }
+    }
 
-        for (View view: rightViews) {
-            final int border = activeCardLeft + getPosition(view) * cardWidth;
-            final int allowedDelta = getAllowedRightDelta(view, dx, border);
-            view.offsetLeftAndRight(-allowedDelta);
+    /**
+     * Active card is the rightmost card which left edge is before the active card center:
+     * the anchor card, or the next card when it passes active card center. Like card places,
+     * it is derived from the anchor, so it does not depend on positions of attached cards.
+     */
+    private void updateActiveCard() {
+        if (getChildCount() == 0) {
+            activeCardPosition = RecyclerView.NO_POSITION;
+            activeCardOffset = 0;
+            return;
         }
 
-        final int step = activeCardLeft / LEFT_CARD_COUNT;
-        final int jDelta = (int) Math.floor(1f * delta * step / cardWidth);
+        activeCardPosition = getActivePosition(anchorPosition, anchorOffset);
 
-        View prevView = null;
-        int j = 0;
+        final int viewLeft = geometry.getCardLeft(activeCardPosition - anchorPosition, anchorOffset);
+        if (viewLeft >= activeCardLeft) {
+            activeCardOffset = (float) (activeCardLeft - viewLeft) / cardWidth;
+        } else {
+            activeCardOffset = (float) (activeCardLeft - viewLeft) / geometry.getStackStep();
+        }
+    }
 
-        for (int i = 0, cnt = leftViews.size(); i < cnt; i++) {
-            final View view = leftViews.get(i);
-            if (prevView == null || getDecoratedLeft(prevView) >= activeCardRight) {
-                final int border = activeCardLeft + getPosition(view) * cardWidth;
-                final int allowedDelta = getAllowedRightDelta(view, dx, border);
-                view.offsetLeftAndRight(-allowedDelta);
-            } else {
-                final int border = activeCardLeft - step * j;
-                view.offsetLeftAndRight(-getAllowedRightDelta(view, jDelta, border));
-                j++;
-            }
+    private int getActivePosition(int anchorPos, int offset) {
+        if (offset != 0 && geometry.getCardLeft(1, offset) < activeCardCenter) {
+            return anchorPos + 1;
+        }
+        return anchorPos;
+    }
 
-            prevView = view;
+    private static boolean isRemoved(int position, int start, int count) {
+        return position >= start && position < start + count;
+    }
+
+    /**
+     * @return Position of the card after removal of {@code count} items at {@code start},
+     *         or position of the card which takes its place, if the card is removed.
+     */
+    static int getPositionAfterRemove(int position, int start, int count) {
+        if (position >= start + count) {
+            return position - count;
+        } else if (position >= start) {
+            return start;
+        } else {
+            return position;
         }
+    }
 
-        return delta;
+    /**
+     * @return Position of the card, which is not moved itself, after move of {@code count} items.
+     */
+    static int getPositionAfterMove(int position, int from, int to, int count) {
+        if (from < position && to + count > position) {
+            return position - count;
+        } else if (from > position && to <= position) {
+            return position + count;
+        } else {
+            return position;
+        }
     }
 
-    private int scrollLeft(int dx) {
-        final int childCount = getChildCount();
-        if (childCount == 0) {
-            return 0;
+    /**
+     * Attaches cards entering the window and recycles cards leaving it.
+     * Cards which stay attached are not touched. New cards are laid out
+     * at places derived from the anchor, see {@link CardGeometry#getCardLeft(int, int)}.
+     */
+    private void fill(RecyclerView.Recycler recycler, RecyclerView.State state) {
+        if (state.isPreLayout()) {
+            return;
         }
 
-        final View lastView = getChildAt(childCount - 1);
-        final boolean isLastItem = getPosition(lastView) == getItemCount() - 1;
+        CardSliderTrace.beginSection(CardSliderTrace.FILL);
+        fillLeft(anchorPosition, recycler);
+        fillRight(anchorPosition, recycler);
+        CardSliderTrace.endSection();
+    }
 
-        final int delta;
-        if (isLastItem) {
-            delta = Math.min(dx, getDecoratedRight(lastView) - activeCardRight);
-        } else {
-            delta = dx;
+    private void fillLeft(int anchorPos, RecyclerView.Recycler recycler) {
+        CardSliderTrace.beginSection(CardSliderTrace.FILL_LEFT);
+
+        int pos = Math.max(0, anchorPos - LEFT_CARD_COUNT - 1);
+
+        while (getChildCount() != 0 && getPosition(getChildAt(0)) < pos) {
+            recycleViewAt(0, recycler);
         }
 
-        final int step = activeCardLeft / LEFT_CARD_COUNT;
-        final int jDelta = (int) Math.ceil(1f * delta * step / cardWidth);
+        int index = 0;
+        while (pos < anchorPos) {
+            if (!isAttachedAt(index, pos)) {
+                addCard(pos, index, anchorPos, recycler);
+            }
 
-        for (int i = childCount - 1; i >= 0; i--) {
-            final View view = getChildAt(i);
-            final int viewLeft = getDecoratedLeft(view);
+            index++;
+            pos++;
+        }
 
-            if (viewLeft > activeCardLeft) {
-                view.offsetLeftAndRight(getAllowedLeftDelta(view, delta, activeCardLeft));
-            } else {
-                int border = activeCardLeft - step;
-                for (int j = i; j >= 0; j--) {
-                    final View jView = getChildAt(j);
-                    jView.offsetLeftAndRight(getAllowedLeftDelta(jView, jDelta, border));
-                    border -= step;
-                }
+        CardSliderTrace.endSection();
+    }
 
-                break;
+    private void fillRight(int anchorPos, RecyclerView.Recycler recycler) {
+        CardSliderTrace.beginSection(CardSliderTrace.FILL_RIGHT);
+
+        final int width = getWidth();
+        final int itemCount = getItemCount();
+
+        int index = 0;
+        while (index < getChildCount() && getPosition(getChildAt(index)) < anchorPos) {
+            index++;
+        }
+
+        int pos = anchorPos;
+        boolean fillRight = true;
+
+        while (fillRight && pos < itemCount) {
+            final View view;
+            if (isAttachedAt(index, pos)) {
+                view = getChildAt(index);
+            } else {
+                view = addCard(pos, index, anchorPos, recycler);
             }
+
+            fillRight = getDecoratedRight(view) < width + cardWidth;
+            index++;
+            pos++;
         }
 
-        return delta;
+        for (int i = getChildCount() - 1; i >= index; i--) {
+            recycleViewAt(i, recycler);
+        }
+
+        CardSliderTrace.endSection();
     }
 
-    private int getAllowedLeftDelta(@NonNull View view, int dx, int border) {
-        final int viewLeft = getDecoratedLeft(view);
-        if (viewLeft - dx > border) {
-            return -dx;
-        } else {
-            return border - viewLeft;
+    private View addCard(int position, int index, int anchorPos, RecyclerView.Recycler recycler) {
+        final View view = recycler.getViewForPosition(position);
+        addView(view, index);
+        onCardAttached(view, position);
+
+        measureChildWithMargins(view, 0, 0);
+        final int viewHeight = getDecoratedMeasuredHeight(view);
+        final int viewLeft = geometry.getCardLeft(position - anchorPos, anchorOffset);
+        layoutDecorated(view, viewLeft, 0, viewLeft + cardWidth, viewHeight);
+
+        return view;
+    }
+
+    private void recycleViewAt(int index, RecyclerView.Recycler recycler) {
+        if (metricsListener != null) {
+            metrics.recycledCount++;
         }
+        releaseCard(getChildAt(index));
+        removeAndRecycleViewAt(index, recycler);
     }
 
-    private int getAllowedRightDelta(@NonNull View view, int dx, int border) {
-        final int viewLeft = getDecoratedLeft(view);
-        if (viewLeft + Math.abs(dx) < border) {
-            return dx;
+    private void onCardAttached(@NonNull View view, int position) {
+        final LayoutParams lp = (LayoutParams) view.getLayoutParams();
+        if (lp.scrapGeneration != cardsGeneration) {
+            // Card View properties could be changed while the card was detached, e.g. in the pool
+            lp.transform.invalidate();
+        }
+        lp.scrapGeneration = -1;
+
+        if (!elevationEnabled) {
+            // Card could be recycled while Z was applied
+            ViewCompat.setTranslationZ(view, 0);
+        }
+
+        if (recycledViewPoolSizing && recyclerView != null) {
+            raiseRecycledViewPoolSize(recyclerView.getRecycledViewPool(),
+                    getItemViewType(view), getMaxAttachedCardCount());
+        }
+
+        if (metricsListener != null) {
+            if (lp.boundPosition == RecyclerView.NO_POSITION) {
+                metrics.createdCount++;
+            } else {
+                metrics.reusedCount++;
+                if (lp.boundPosition != position) {
+                    metrics.positionChangedCount++;
+                }
+            }
+        }
+        lp.boundPosition = position;
+
+        if (!isFastScrolling()) {
+            return;
+        }
+
+        if (fastAttachedFirst == RecyclerView.NO_POSITION) {
+            fastAttachedFirst = position;
+            fastAttachedLast = position;
         } else {
-            return viewLeft - border;
+            fastAttachedFirst = Math.min(fastAttachedFirst, position);
+            fastAttachedLast = Math.max(fastAttachedLast, position);
         }
     }
 
-    private void layoutByCoords() {
-        final int count = Math.min(getChildCount(), cardsXCoords.size());
-        for (int i = 0; i < count; i++) {
-            final View view = getChildAt(i);
-            final int viewLeft = cardsXCoords.get(getPosition(view));
-            layoutDecorated(view, viewLeft, 0, viewLeft + cardWidth, getDecoratedBottom(view));
+    /**
+     * Raises maximum number of recycled views of the type. Pool does not expose its sizes,
+     * so sizes set by layout managers are remembered per pool, and a pool shared by several sliders
+     * is only ever raised to the largest size any of them needs.
+     */
+    private static void raiseRecycledViewPoolSize(@NonNull RecyclerView.RecycledViewPool pool, int viewType, int size) {
+        SparseIntArray sizes = poolSizes.get(pool);
+        if (sizes == null) {
+            sizes = new SparseIntArray();
+            poolSizes.put(pool, sizes);
+        }
+
+        final int poolSize = Math.max(DEFAULT_RECYCLED_VIEW_POOL_SIZE, size);
+        if (sizes.get(viewType) < poolSize) {
+            pool.setMaxRecycledViews(viewType, poolSize);
+            sizes.put(viewType, poolSize);
         }
-        cardsXCoords.clear();
     }
 
-    private void fill(int anchorPos, RecyclerView.Recycler recycler, RecyclerView.State state) {
-        viewCache.clear();
+    /**
+     * Sends {@link #PAYLOAD_FAST_SCROLL_FINISHED} for the range of cards attached during fast scroll.
+     * The range covers cards which already left the window but could be reused from the view cache.
+     */
+    private void notifyFastAttachedCards() {
+        final int first = fastAttachedFirst;
+        final int last = Math.min(fastAttachedLast, getItemCount() - 1);
+
+        fastAttachedFirst = RecyclerView.NO_POSITION;
+        fastAttachedLast = RecyclerView.NO_POSITION;
 
-        for (int i = 0, cnt = getChildCount(); i < cnt; i++) {
-            View view = getChildAt(i);
-            int pos = getPosition(view);
-            viewCache.put(pos, view);
+        if (first == RecyclerView.NO_POSITION || first > last || recyclerView == null) {
+            return;
         }
 
-        for (int i = 0, cnt = viewCache.size(); i < cnt; i++) {
-            detachView(viewCache.valueAt(i));
+        final RecyclerView view = recyclerView;
+        view.post(new Runnable() {
+            @Override
+            public void run() {
+                final RecyclerView.Adapter adapter = view.getAdapter();
+                if (adapter != null && last < adapter.getItemCount()) {
+                    adapter.notifyItemRangeChanged(first, last - first + 1, PAYLOAD_FAST_SCROLL_FINISHED);
+                }
+            }
+        });
+    }
+
+    /**
+     * Promotes cards closest to the active card to hardware layers while scroll is in progress,
+     * and demotes the rest of attached cards.
+     */
+    private void updateCardLayers() {
+        if (hardwareLayerCardCount == 0) {
+            return;
         }
 
-        if (!state.isPreLayout()) {
-            fillLeft(anchorPos, recycler);
-            fillRight(anchorPos, recycler);
+        final int childCount = getChildCount();
+        if (childCount == 0) {
+            return;
         }
 
-        for (int i = 0, cnt = viewCache.size(); i < cnt; i++) {
-            recycler.recycleView(viewCache.valueAt(i));
+        final boolean scrolling = scrollState != RecyclerView.SCROLL_STATE_IDLE;
+        final int activePos = activeCardPosition == RecyclerView.NO_POSITION
+                ? getPosition(getChildAt(0)) : activeCardPosition;
+        final int activeIndex = activePos - getPosition(getChildAt(0));
+
+        for (int i = 0; i < childCount; i++) {
+            // Active card, first right, first left, second right, ...
+            final int distance = i - activeIndex;
+            final int rank = distance > 0 ? distance * 2 - 1 : -distance * 2;
+            setCardLayer(getChildAt(i), scrolling && rank < hardwareLayerCardCount);
         }
     }
 
-    private void fillLeft(int anchorPos, RecyclerView.Recycler recycler) {
-        if (anchorPos == RecyclerView.NO_POSITION) {
+    private void removeCardLayers() {
+        if (hardwareLayerCardCount == 0) {
             return;
         }
 
-        final int layoutStep = activeCardLeft / LEFT_CARD_COUNT;
-        int pos = Math.max(0, anchorPos - LEFT_CARD_COUNT - 1);
-        int viewLeft = Math.max(-1, LEFT_CARD_COUNT - (anchorPos - pos)) * layoutStep;
+        for (int i = 0, cnt = getChildCount(); i < cnt; i++) {
+            setCardLayer(getChildAt(i), false);
+        }
+    }
 
-        while (pos < anchorPos) {
-            View view = viewCache.get(pos);
-            if (view != null) {
-                attachView(view);
-                viewCache.remove(pos);
-            } else {
-                view = recycler.getViewForPosition(pos);
-                addView(view);
-                measureChildWithMargins(view, 0, 0);
-                final int viewHeight = getDecoratedMeasuredHeight(view);
-                layoutDecorated(view, viewLeft, 0, viewLeft + cardWidth, viewHeight);
+    /**
+     * Sorts RecyclerView children by Z of their transforms. Children with equal Z,
+     * including views which are not cards, keep their order.
+     */
+    private void updateDrawingOrder(int childCount) {
+        if (drawingOrder.length < childCount) {
+            drawingOrder = new int[childCount];
+            drawingOrderZ = new float[childCount];
+        }
+        drawingOrderChildCount = childCount;
+        drawingOrderGeneration = cardsGeneration;
+
+        final RecyclerView view = recyclerView;
+        for (int i = 0; i < childCount; i++) {
+            final View child = view != null ? view.getChildAt(i) : null;
+            final float z = child != null && child.getLayoutParams() instanceof LayoutParams
+                    ? ((LayoutParams) child.getLayoutParams()).transform.getZ() : 0;
+
+            // Insertion sort, cards are almost ordered by Z already
+            int j = i - 1;
+            while (j >= 0 && drawingOrderZ[j] > z) {
+                drawingOrder[j + 1] = drawingOrder[j];
+                drawingOrderZ[j + 1] = drawingOrderZ[j];
+                j--;
             }
+            drawingOrder[j + 1] = i;
+            drawingOrderZ[j + 1] = z;
+        }
+    }
 
-            viewLeft += layoutStep;
-            pos++;
+    /**
+     * Restores View properties changed by the layout manager before the card goes to the pool.
+     */
+    private void releaseCard(@NonNull View view) {
+        setCardLayer(view, false);
+        setCardCulled(view, false);
+    }
+
+    private void releaseCards() {
+        for (int i = 0, cnt = getChildCount(); i < cnt; i++) {
+            releaseCard(getChildAt(i));
         }
+    }
 
+    /**
+     * Hides stacked cards, which are fully covered by an opaque card drawn above them.
+     * Cards are processed from right to left, so hidden cards are not considered as covering.
+     */
+    private void cullOccludedCards(@NonNull View[] views, @NonNull float[] positions, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            final View view = views[i];
+            if (!occlusionCullingEnabled || positions[i] >= 0) {
+                setCardCulled(view, false);
+                continue;
+            }
+
+            final LayoutParams lp = (LayoutParams) view.getLayoutParams();
+            if (!lp.culled && view.getVisibility() != View.VISIBLE) {
+                continue;
+            }
+
+            getVisualBounds(view, occludedBounds);
+            final float z = getDrawingZ(view);
+
+            boolean occluded = false;
+            for (int j = i + 1; j < count && !occluded; j++) {
+                final View occluder = views[j];
+                if (occluder.getVisibility() != View.VISIBLE
+                        || occluder.getAlpha() < 1f
+                        || getDrawingZ(occluder) < z) {
+                    continue;
+                }
+
+                getVisualBounds(occluder, occluderBounds);
+                occluded = occluderBounds.contains(occludedBounds);
+            }
+
+            setCardCulled(view, occluded);
+        }
     }
 
-    private void fillRight(int anchorPos, RecyclerView.Recycler recycler) {
-        if (anchorPos == RecyclerView.NO_POSITION) {
+    /**
+     * @return Z, by which the card is ordered when drawn.
+     */
+    private float getDrawingZ(@NonNull View view) {
+        return elevationEnabled ? ViewCompat.getZ(view) : getCardTransform(view).getZ();
+    }
+
+    private void setCardCulled(@NonNull View view, boolean culled) {
+        final LayoutParams lp = (LayoutParams) view.getLayoutParams();
+        if (lp.culled == culled) {
             return;
         }
 
-        final int width = getWidth();
-        final int itemCount = getItemCount();
+        view.setVisibility(culled ? View.INVISIBLE : View.VISIBLE);
+        lp.culled = culled;
+    }
 
-        int pos = anchorPos;
-        int viewLeft = activeCardLeft;
-        boolean fillRight = true;
+    private static void getVisualBounds(@NonNull View view, @NonNull RectF out) {
+        final float pivotX = view.getPivotX();
+        final float pivotY = view.getPivotY();
+        final float left = view.getLeft() + view.getTranslationX() + pivotX;
+        final float top = view.getTop() + view.getTranslationY() + pivotY;
 
-        while (fillRight && pos < itemCount) {
-            View view = viewCache.get(pos);
-            if (view != null) {
-                attachView(view);
-                viewCache.remove(pos);
-            } else {
-                view = recycler.getViewForPosition(pos);
-                addView(view);
-                measureChildWithMargins(view, 0, 0);
-                final int viewHeight = getDecoratedMeasuredHeight(view);
-                layoutDecorated(view, viewLeft, 0, viewLeft + cardWidth, viewHeight);
+        out.set(left - pivotX * view.getScaleX(),
+                top - pivotY * view.getScaleY(),
+                left + (view.getWidth() - pivotX) * view.getScaleX(),
+                top + (view.getHeight() - pivotY) * view.getScaleY());
+    }
+
+    private void setCardLayer(@NonNull View view, boolean layered) {
+        final LayoutParams lp = (LayoutParams) view.getLayoutParams();
+        if (lp.layered == layered) {
+            return;
+        }
+
+        if (layered) {
+            lp.savedLayerType = view.getLayerType();
+            view.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+        } else {
+            view.setLayerType(lp.savedLayerType, null);
+        }
+        lp.layered = layered;
+    }
+
+    private boolean isAttachedAt(int index, int position) {
+        return index < getChildCount() && getPosition(getChildAt(index)) == position;
+    }
+
+    private void commitTransform(@NonNull View view, boolean force) {
+        final CardTransform transform = getCardTransform(view);
+        if (force) {
+            // View properties could be changed by item animator
+            transform.invalidate();
+        }
+
+        for (int property = 0; property < CardTransform.PROPERTY_COUNT; property++) {
+            if (!transform.isWritten(property)) {
+                continue;
             }
 
-            viewLeft = getDecoratedRight(view);
-            fillRight = viewLeft < width + cardWidth;
-            pos++;
+            if (!transform.commit(property)) {
+                skippedTransformWriteCount++;
+                continue;
+            }
+
+            transformWriteCount++;
+            final float value = transform.get(property);
+            switch (property) {
+                case CardTransform.SCALE_X:
+                    ViewCompat.setScaleX(view, value);
+                    break;
+                case CardTransform.SCALE_Y:
+                    ViewCompat.setScaleY(view, value);
+                    break;
+                case CardTransform.ALPHA:
+                    ViewCompat.setAlpha(view, value);
+                    break;
+                case CardTransform.Z:
+                    if (elevationEnabled) {
+                        ViewCompat.setZ(view, value);
+                    }
+                    break;
+                case CardTransform.TRANSLATION_X:
+                    ViewCompat.setTranslationX(view, value);
+                    break;
+                case CardTransform.DIM:
+                    final DimmableCard card = getDimmableCard(view);
+                    if (card != null) {
+                        card.setDim(value);
+                    }
+                    break;
+            }
         }
     }
 
-    private void updateViewScale() {
-        for (int i = 0, cnt = getChildCount(); i < cnt; i++) {
+    private void onPassFinished() {
+        if (CardSliderTrace.isEnabled()) {
+            CardSliderTrace.setCounter(CardSliderTrace.COUNTER_ATTACHED_CARDS, getChildCount());
+            CardSliderTrace.setCounter(CardSliderTrace.COUNTER_ACTIVE_POSITION, getActiveCardPosition());
+        }
+
+        if (metricsListener != null) {
+            metrics.attachedCount = getChildCount();
+            metricsListener.onLayoutMetrics(metrics);
+        }
+    }
+
+    void updateViewScale(boolean forceCommit) {
+        CardSliderTrace.beginSection(CardSliderTrace.UPDATE_VIEW_SCALE);
+
+        final boolean measure = metricsListener != null;
+        final long start = measure ? System.nanoTime() : 0;
+
+        final int childCount = getChildCount();
+        if (frameViews.length < childCount) {
+            frameViews = new View[childCount];
+            frameLefts = new int[childCount];
+            framePositions = new float[childCount];
+        }
+
+        for (int i = 0; i < childCount; i++) {
             final View view = getChildAt(i);
             final int viewLeft = getDecoratedLeft(view);
 
-            final float position = ((float) (viewLeft - activeCardLeft) / cardWidth);
-            viewUpdater.updateView(view, position);
+            frameViews[i] = view;
+            frameLefts[i] = viewLeft;
+            framePositions[i] = geometry.getPosition(viewLeft);
+        }
+
+        final long updaterStart = measure ? System.nanoTime() : 0;
+        viewUpdater.updateViews(frameViews, frameLefts, framePositions, childCount);
+        if (measure) {
+            metrics.viewUpdaterTime = System.nanoTime() - updaterStart;
+        }
+
+        for (int i = 0; i < childCount; i++) {
+            commitTransform(frameViews[i], forceCommit);
+        }
+
+        cullOccludedCards(frameViews, framePositions, childCount);
+        cardsGeneration++;
+
+        // Do not retain detached views
+        Arrays.fill(frameViews, 0, childCount, null);
+
+        if (measure) {
+            metrics.updateViewScaleTime = System.nanoTime() - start;
         }
+
+        CardSliderTrace.endSection();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.ramotion.cardslider;
+
+import android.util.LongSparseArray;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Scroll positions of sliders, which are rows of an outer list, e.g. vertical RecyclerView.
+ * Save the position of the row slider when the row is recycled, and restore it when the row is bound,
+ * so the row comes back at the exact same place. Restoring only sets the slider anchor,
+ * cards are laid out once by the layout pass which binds new row data anyway.
+ *
+ * Entries are reused, saving the position of a known row does not allocate.
+ * The number of entries is limited, positions saved longest ago are dropped first.
+ * Call {@link #clear()} when rows of the outer list are replaced, e.g. on outer adapter change.
+ */
+public class CardSliderStateCache {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private final LongSparseArray<Entry> entries = new LongSparseArray<>();
+    private final int maxSize;
+    private long saveCount;
+
+    private static class Entry {
+        int position;
+        int offset;
+        long saveIndex;
+    }
+
+    public CardSliderStateCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize   Maximum number of saved positions.
+     */
+    public CardSliderStateCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param key   Row key, e.g. adapter item id of the row.
+     * @param lm    Layout manager of the row slider.
+     */
+    public void save(long key, @NonNull CardSliderLayoutManager lm) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = entries.size() < maxSize ? new Entry() : removeOldest();
+            entries.put(key, entry);
+        }
+
+        entry.position = lm.getAnchorPosition();
+        entry.offset = lm.getAnchorOffset();
+        entry.saveIndex = ++saveCount;
+    }
+
+    /**
+     * Scrolls the row slider to the saved position, or to the first card if the position of the row
+     * was not saved. Call after the slider adapter is updated with row data.
+     *
+     * @param key   Row key.
+     * @param lm    Layout manager of the row slider.
+     * @return {@code true} if the saved position is restored. {@code false} if the position was not saved,
+     *         or the slider adapter has no card at the saved position, e.g. it is not set or empty.
+     */
+    public boolean restore(long key, @NonNull CardSliderLayoutManager lm) {
+        final int itemCount = lm.getItemCount();
+
+        final Entry entry = entries.get(key);
+        if (entry == null || entry.position >= itemCount) {
+            if (itemCount != 0) {
+                lm.scrollToPositionWithOffset(0, 0);
+            }
+            return false;
+        }
+
+        lm.scrollToPositionWithOffset(entry.position, entry.offset);
+        return true;
+    }
+
+    public void remove(long key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes the entry saved longest ago, for reuse.
+     */
+    @NonNull
+    private Entry removeOldest() {
+        int oldest = 0;
+        for (int i = 1, cnt = entries.size(); i < cnt; i++) {
+            if (entries.valueAt(i).saveIndex < entries.valueAt(oldest).saveIndex) {
+                oldest = i;
+            }
+        }
+
+        final Entry entry = entries.valueAt(oldest);
+        entries.removeAt(oldest);
+        return entry;
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.ramotion.cardslider;
+
+import android.os.Trace;
+
+import java.lang.reflect.Method;
+
+import androidx.core.os.TraceCompat;
+
+/**
+ * Systrace / Perfetto trace sections and counters of the library.
+ *
+ * Tracing is disabled by default, so sections cost a single static field read.
+ * Enable it before the slider is laid out, e.g. in {@code Application.onCreate()}, to see
+ * layout, scroll, fill and snap sections of the slider inside RecyclerView sections of a capture.
+ */
+public final class CardSliderTrace {
+
+    static final String ON_LAYOUT_CHILDREN = "CardSlider.onLayoutChildren";
+    static final String SCROLL_LEFT = "CardSlider.scrollLeft";
+    static final String SCROLL_RIGHT = "CardSlider.scrollRight";
+    static final String FILL = "CardSlider.fill";
+    static final String FILL_LEFT = "CardSlider.fillLeft";
+    static final String FILL_RIGHT = "CardSlider.fillRight";
+    static final String UPDATE_VIEW_SCALE = "CardSlider.updateViewScale";
+    static final String ON_FLING = "CardSnapHelper.onFling";
+    static final String FIND_TARGET_SNAP_POSITION = "CardSnapHelper.findTargetSnapPosition";
+    static final String FIND_SNAP_VIEW = "CardSnapHelper.findSnapView";
+    static final String CALCULATE_DISTANCE_TO_FINAL_SNAP = "CardSnapHelper.calculateDistanceToFinalSnap";
+
+    static final String COUNTER_ATTACHED_CARDS = "CardSlider.attachedCards";
+    static final String COUNTER_ACTIVE_POSITION = "CardSlider.activePosition";
+
+    private static boolean enabled;
+
+    private static boolean counterResolved;
+    private static Method setCounterMethod;
+    private static Method traceCounterMethod;
+    private static long traceTagApp;
+
+    private CardSliderTrace() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables trace sections and counters. Must not be changed while the slider is laid out or scrolled,
+     * otherwise sections may be unbalanced.
+     */
+    public static void setEnabled(boolean enabled) {
+        CardSliderTrace.enabled = enabled;
+    }
+
+    static void beginSection(String name) {
+        if (enabled) {
+            TraceCompat.beginSection(name);
+        }
+    }
+
+    static void endSection() {
+        if (enabled) {
+            TraceCompat.endSection();
+        }
+    }
+
+    /**
+     * Sets counter value. Trace counters are public since API 29, on older versions
+     * hidden {@code Trace.traceCounter} is used if it is accessible.
+     */
+    static void setCounter(String name, int value) {
+        if (!enabled) {
+            return;
+        }
+
+        resolveCounterMethods();
+        try {
+            if (setCounterMethod != null) {
+                setCounterMethod.invoke(null, name, (long) value);
+            } else if (traceCounterMethod != null) {
+                traceCounterMethod.invoke(null, traceTagApp, name, value);
+            }
+        } catch (Exception e) {
+            setCounterMethod = null;
+            traceCounterMethod = null;
+        }
+    }
+
+    private static void resolveCounterMethods() {
+        if (counterResolved) {
+            return;
+        }
+        counterResolved = true;
+
+        try {
+            setCounterMethod = Trace.class.getMethod("setCounter", String.class, long.class);
+            return;
+        } catch (Exception ignored) {
+        }
+
+        try {
+            traceTagApp = Trace.class.getField("TRACE_TAG_APP").getLong(null);
+            traceCounterMethod = Trace.class.getMethod("traceCounter", long.class, String.class, int.class);
+        } catch (Exception ignored) {
+        }
+    }
+
+}
@@ -1,8 +1,8 @@
 package com.ramotion.cardslider;
 
+import android.content.Context;
 import android.graphics.PointF;
 import android.view.View;
-import android.view.animation.AccelerateInterpolator;
 
 import java.security.InvalidParameterException;
 
@@ -14,11 +14,87 @@ import androidx.recyclerview.widget.RecyclerView;
 
 /**
  * Extended {@link LinearSnapHelper} that works <b>only</b> with {@link CardSliderLayoutManager}.
+ *
+ * Both fling and end of scroll snaps are performed by a single reused {@link CardScroller}, which scrolls
+ * the exact distance to the target card, see {@link CardSliderLayoutManager#getScrollDistanceToPosition(int)}.
+ * Fling snaps start with the fling velocity.
  */
 public class CardSnapHelper extends LinearSnapHelper {
 
+    public static final int DEFAULT_MAX_FLING_CARD_COUNT = 3;
+    public static final int UNLIMITED_FLING_CARD_COUNT = Integer.MAX_VALUE;
+
     private RecyclerView recyclerView;
 
+    private int maxFlingCardCount = DEFAULT_MAX_FLING_CARD_COUNT;
+
+    private int snapTargetPosition = RecyclerView.NO_POSITION;
+    private int flingVelocity;
+    private SnapScroller snapScroller;
+    private OnSnapListener onSnapListener;
+
+    /**
+     * Listener of snap scrolls.
+     */
+    public interface OnSnapListener {
+        /**
+         * Called when snap scroll starts.
+         * @param targetPosition    Position of the card, which will become active.
+         */
+        void onSnapStarted(int targetPosition);
+
+        /**
+         * Called when snap scroll is finished or interrupted.
+         * @param activeCardPosition    Active card position, see {@link CardSliderLayoutManager#getActiveCardPosition()}.
+         */
+        void onSnapFinished(int activeCardPosition);
+    }
+
+    private final RecyclerView.OnScrollListener scrollListener = new RecyclerView.OnScrollListener() {
+        private boolean scrolled;
+
+        @Override
+        public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+            if (dx != 0) {
+                scrolled = true;
+            }
+        }
+
+        @Override
+        public void onScrollStateChanged(@NonNull RecyclerView recyclerView, int newState) {
+            if (newState == RecyclerView.SCROLL_STATE_SETTLING) {
+                return;
+            }
+
+            if (snapTargetPosition != RecyclerView.NO_POSITION) {
+                finishSnap();
+            }
+
+            if (newState == RecyclerView.SCROLL_STATE_IDLE && scrolled) {
+                scrolled = false;
+                snapToActiveCard();
+            }
+        }
+    };
+
+    private class SnapScroller extends CardScroller {
+
+        SnapScroller(Context context) {
+            super(context);
+        }
+
+        @Override
+        protected void onStart() {
+            super.onStart();
+            startSnap(getTargetPosition());
+        }
+
+        @Override
+        protected void onTargetReached() {
+            finishSnap();
+        }
+    }
+
     /**
      * Attaches the {@link CardSnapHelper} to the provided RecyclerView, by calling
      * {@link RecyclerView#setOnFlingListener(RecyclerView.OnFlingListener)}.
@@ -28,7 +104,7 @@ public class CardSnapHelper extends LinearSnapHelper {
      *                     {@code null} if you want to remove SnapHelper from the current
      *                     RecyclerView.
      *
-     * @throws IllegalArgumentException if there is already a {@link RecyclerView.OnFlingListener}
+     * @throws IllegalStateException if there is already a {@link RecyclerView.OnFlingListener}
      * attached to the provided {@link RecyclerView}.
      *
      * @throws InvalidParameterException if provided RecyclerView has LayoutManager which is not
@@ -37,17 +113,94 @@ public class CardSnapHelper extends LinearSnapHelper {
      */
     @Override
     public void attachToRecyclerView(@Nullable RecyclerView recyclerView) throws IllegalStateException {
-        super.attachToRecyclerView(recyclerView);
+        if (this.recyclerView == recyclerView) {
+            return;
+        }
 
         if (recyclerView != null && !(recyclerView.getLayoutManager() instanceof CardSliderLayoutManager)) {
             throw new InvalidParameterException("LayoutManager must be instance of CardSliderLayoutManager");
         }
 
+        if (this.recyclerView != null) {
+            this.recyclerView.removeOnScrollListener(scrollListener);
+            this.recyclerView = null;
+        }
+
+        // Added before listener of the base class, so end of scroll snap is started here,
+        // and the base class finds no view to snap.
+        if (recyclerView != null) {
+            recyclerView.addOnScrollListener(scrollListener);
+        }
+
+        try {
+            super.attachToRecyclerView(recyclerView);
+        } catch (IllegalStateException e) {
+            // Another fling listener is set, the base class is detached from the previous RecyclerView
+            if (recyclerView != null) {
+                recyclerView.removeOnScrollListener(scrollListener);
+            }
+            throw e;
+        }
+
         this.recyclerView = recyclerView;
+        snapTargetPosition = RecyclerView.NO_POSITION;
+        snapScroller = null;
+    }
+
+    @Override
+    public boolean onFling(int velocityX, int velocityY) {
+        CardSliderTrace.beginSection(CardSliderTrace.ON_FLING);
+        flingVelocity = velocityX;
+        try {
+            return super.onFling(velocityX, velocityY);
+        } finally {
+            flingVelocity = 0;
+            CardSliderTrace.endSection();
+        }
+    }
+
+    /**
+     * Sets listener of snap scrolls.
+     *
+     * @param listener  Listener, or {@code null} to remove it.
+     */
+    public void setOnSnapListener(@Nullable OnSnapListener listener) {
+        onSnapListener = listener;
+    }
+
+    /**
+     * @return Maximum number of cards passed by one fling. Default value is {@link #DEFAULT_MAX_FLING_CARD_COUNT}.
+     */
+    public int getMaxFlingCardCount() {
+        return maxFlingCardCount;
+    }
+
+    /**
+     * Sets maximum number of cards passed by one fling. Fling distance in cards is proportional
+     * to fling velocity and is limited by this value.
+     * To skip expensive binding of cards passed at high speed, see
+     * {@link CardSliderLayoutManager#setFastScrollThreshold(int)}.
+     *
+     * @param maxFlingCardCount Maximum number of cards, or {@link #UNLIMITED_FLING_CARD_COUNT}.
+     */
+    public void setMaxFlingCardCount(int maxFlingCardCount) {
+        if (maxFlingCardCount <= 0) {
+            throw new IllegalArgumentException("Max fling card count must be positive");
+        }
+        this.maxFlingCardCount = maxFlingCardCount;
     }
 
     @Override
     public int findTargetSnapPosition(RecyclerView.LayoutManager layoutManager, int velocityX, int velocityY) {
+        CardSliderTrace.beginSection(CardSliderTrace.FIND_TARGET_SNAP_POSITION);
+        try {
+            return findTargetPosition(layoutManager, velocityX, velocityY);
+        } finally {
+            CardSliderTrace.endSection();
+        }
+    }
+
+    private int findTargetPosition(RecyclerView.LayoutManager layoutManager, int velocityX, int velocityY) {
         final CardSliderLayoutManager lm = (CardSliderLayoutManager) layoutManager;
 
         final int itemCount = lm.getItemCount();
@@ -73,7 +226,7 @@ public class CardSnapHelper extends LinearSnapHelper {
         }
 
         final int deltaSign = Integer.signum(deltaJump);
-        deltaJump = deltaSign * Math.min(3, Math.abs(deltaJump));
+        deltaJump = deltaSign * Math.min(maxFlingCardCount, Math.abs(deltaJump));
 
         if (vectorForEnd.x < 0) {
             deltaJump = -deltaJump;
@@ -88,53 +241,98 @@ public class CardSnapHelper extends LinearSnapHelper {
             return RecyclerView.NO_POSITION;
         }
 
-        int targetPos = currentPosition + deltaJump;
-        if (targetPos < 0 || targetPos >= itemCount) {
-            targetPos = RecyclerView.NO_POSITION;
-        }
-
-        return targetPos;
+        // Long flings stop at the first or the last card
+        final long targetPos = (long) currentPosition + deltaJump;
+        return (int) Math.max(0, Math.min(itemCount - 1, targetPos));
     }
 
+    /**
+     * @return Card which is snapped to at the end of scroll, or {@code null} when snap is in progress.
+     */
     @Override
     public View findSnapView(RecyclerView.LayoutManager layoutManager) {
-        return ((CardSliderLayoutManager)layoutManager).getTopView();
+        if (snapTargetPosition != RecyclerView.NO_POSITION) {
+            return null;
+        }
+
+        CardSliderTrace.beginSection(CardSliderTrace.FIND_SNAP_VIEW);
+        final View view = ((CardSliderLayoutManager)layoutManager).getTopView();
+        CardSliderTrace.endSection();
+        return view;
     }
 
+    /**
+     * @return Scroll distance, which makes active the target card, if its left edge is before
+     *         active card center, or the previous card otherwise.
+     */
     @Override
     public int[] calculateDistanceToFinalSnap(@NonNull RecyclerView.LayoutManager layoutManager,
                                               @NonNull View targetView)
     {
+        CardSliderTrace.beginSection(CardSliderTrace.CALCULATE_DISTANCE_TO_FINAL_SNAP);
         final CardSliderLayoutManager lm = (CardSliderLayoutManager)layoutManager;
-        final int viewLeft = lm.getDecoratedLeft(targetView);
-        final int activeCardLeft = lm.getActiveCardLeft();
-        final int activeCardCenter = lm.getActiveCardLeft() + lm.getCardWidth() / 2;
-        final int activeCardRight = lm.getActiveCardLeft() + lm.getCardWidth();
-
-        int[] out = new int[] {0, 0};
-        if (viewLeft < activeCardCenter) {
-            final int targetPos = lm.getPosition(targetView);
-            final int activeCardPos = lm.getActiveCardPosition();
-            if (targetPos != activeCardPos) {
-                out[0] = -(activeCardPos - targetPos) * lm.getCardWidth();
-            } else {
-                out[0] = viewLeft - activeCardLeft;
-            }
+        final int[] out = new int[] {lm.getScrollDistanceToPosition(getSnapPosition(lm, targetView)), 0};
+        CardSliderTrace.endSection();
+        return out;
+    }
+
+    @Nullable
+    @Override
+    protected LinearSmoothScroller createSnapScroller(RecyclerView.LayoutManager layoutManager) {
+        if (recyclerView == null) {
+            return null;
+        }
+
+        if (snapScroller == null) {
+            snapScroller = new SnapScroller(recyclerView.getContext());
+        } else {
+            snapScroller.cancel();
+        }
+
+        snapScroller.setInitialVelocity(flingVelocity);
+        return snapScroller;
+    }
+
+    private int getSnapPosition(@NonNull CardSliderLayoutManager lm, @NonNull View view) {
+        final int position = lm.getPosition(view);
+        if (lm.getDecoratedLeft(view) < lm.getActiveCardCenter()) {
+            return position;
         } else {
-            out[0] = viewLeft - activeCardRight + 1;
+            return Math.max(0, position - 1);
+        }
+    }
+
+    private void snapToActiveCard() {
+        final CardSliderLayoutManager lm = (CardSliderLayoutManager) recyclerView.getLayoutManager();
+        if (lm == null) {
+            return;
         }
 
-        if (out[0] != 0) {
-            recyclerView.smoothScrollBy(out[0], 0, new AccelerateInterpolator());
+        final int position = lm.getActiveCardPosition();
+        if (position == RecyclerView.NO_POSITION || lm.getScrollDistanceToPosition(position) == 0) {
+            return;
         }
 
-        return new int[] {0, 0};
+        final LinearSmoothScroller scroller = createSnapScroller(lm);
+        if (scroller != null) {
+            scroller.setTargetPosition(position);
+            lm.startSmoothScroll(scroller);
+        }
     }
 
-    @Nullable
-    @Override
-    protected LinearSmoothScroller createSnapScroller(RecyclerView.LayoutManager layoutManager) {
-        return ((CardSliderLayoutManager)layoutManager).getSmoothScroller(recyclerView);
+    private void startSnap(int targetPosition) {
+        snapTargetPosition = targetPosition;
+        if (onSnapListener != null) {
+            onSnapListener.onSnapStarted(targetPosition);
+        }
+    }
+
+    private void finishSnap() {
+        snapTargetPosition = RecyclerView.NO_POSITION;
+        if (onSnapListener != null && recyclerView != null) {
+            final CardSliderLayoutManager lm = (CardSliderLayoutManager) recyclerView.getLayoutManager();
+            onSnapListener.onSnapFinished(lm != null ? lm.getActiveCardPosition() : RecyclerView.NO_POSITION);
+        }
     }
 
 }
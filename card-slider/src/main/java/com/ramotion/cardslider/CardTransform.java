@@ -0,0 +1,129 @@
+package com.ramotion.cardslider;
+
+/**
+ * Per-card transform record. Updaters write card transform here, and {@link CardSliderLayoutManager}
+ * commits it to the card View once per frame, skipping properties which are equal to the committed values.
+ *
+ * See {@link CardSliderLayoutManager#getCardTransform}
+ */
+public class CardTransform {
+
+    static final int SCALE_X = 0;
+    static final int SCALE_Y = 1;
+    static final int ALPHA = 2;
+    static final int Z = 3;
+    static final int TRANSLATION_X = 4;
+    static final int DIM = 5;
+    static final int PROPERTY_COUNT = 6;
+
+    private final float[] values = new float[PROPERTY_COUNT];
+    private final float[] committed = new float[PROPERTY_COUNT];
+
+    private int writtenMask;
+    private int committedMask;
+
+    public CardTransform() {
+        values[SCALE_X] = 1f;
+        values[SCALE_Y] = 1f;
+        values[ALPHA] = 1f;
+    }
+
+    public float getScaleX() {
+        return values[SCALE_X];
+    }
+
+    public float getScaleY() {
+        return values[SCALE_Y];
+    }
+
+    public float getAlpha() {
+        return values[ALPHA];
+    }
+
+    public float getZ() {
+        return values[Z];
+    }
+
+    public float getTranslationX() {
+        return values[TRANSLATION_X];
+    }
+
+    public float getDim() {
+        return values[DIM];
+    }
+
+    public void setScale(float scale) {
+        set(SCALE_X, scale);
+        set(SCALE_Y, scale);
+    }
+
+    public void setScaleX(float scaleX) {
+        set(SCALE_X, scaleX);
+    }
+
+    public void setScaleY(float scaleY) {
+        set(SCALE_Y, scaleY);
+    }
+
+    public void setAlpha(float alpha) {
+        set(ALPHA, alpha);
+    }
+
+    public void setZ(float z) {
+        set(Z, z);
+    }
+
+    public void setTranslationX(float translationX) {
+        set(TRANSLATION_X, translationX);
+    }
+
+    /**
+     * @param dim   Dim amount of the card from 0 to 1, committed to
+     *              {@link CardSliderLayoutManager.DimmableCard DimmableCard} only.
+     */
+    public void setDim(float dim) {
+        set(DIM, dim);
+    }
+
+    /**
+     * Forgets committed values, so next commit writes every written property.
+     * Used when card View properties could be changed outside of the layout manager.
+     */
+    void invalidate() {
+        committedMask = 0;
+    }
+
+    /**
+     * @return {@code true} if property was written since last commit.
+     */
+    boolean isWritten(int property) {
+        return (writtenMask & (1 << property)) != 0;
+    }
+
+    /**
+     * Marks written property as committed.
+     *
+     * @return {@code true} if property value differs from the committed one and must be written to View.
+     */
+    boolean commit(int property) {
+        final int bit = 1 << property;
+        final float value = values[property];
+        final boolean changed = (committedMask & bit) == 0 || committed[property] != value;
+
+        committed[property] = value;
+        committedMask |= bit;
+        writtenMask &= ~bit;
+
+        return changed;
+    }
+
+    float get(int property) {
+        return values[property];
+    }
+
+    private void set(int property, float value) {
+        values[property] = value;
+        writtenMask |= 1 << property;
+    }
+
+}
@@ -1,129 +1,151 @@
 package com.ramotion.cardslider;
 
 import androidx.annotation.NonNull;
-import androidx.core.view.ViewCompat;
 import android.view.View;
 
 /**
  * Default implementation of {@link CardSliderLayoutManager.ViewUpdater}
+ * and {@link CardSliderLayoutManager.BatchViewUpdater}.
+ *
+ * Card transform is written into {@link CardSliderLayoutManager#getCardTransform card transform record},
+ * which the layout manager commits to the card View after the updater. Subclasses must read and adjust
+ * scale, alpha, translation and Z of the record, not of the View: View values are not updated yet
+ * after {@code super.updateView()}, and View changes of these properties are overwritten by the commit.
+ * Within a batch every card is passed to {@link #updateView}, so subclasses can extend single-view update,
+ * while card left edges are taken from the batch instead of being read from the card again.
+ * Called outside a batch, {@link #updateView} has no left neighbour of the card, and right cards are not spaced.
+ * Right cards are spaced relative to the values computed for their left neighbour in the same batch.
+ *
+ * Stacked cards are dimmed by card alpha, which makes RenderThread draw a card with overlapping content
+ * into an offscreen buffer every frame, unless card's {@link View#hasOverlappingRendering()} returns
+ * {@code false}. With {@link #DIM_MODE_OVERLAY}, cards which implement
+ * {@link CardSliderLayoutManager.DimmableCard DimmableCard} stay opaque and dim themselves.
  */
-public class DefaultViewUpdater implements CardSliderLayoutManager.ViewUpdater {
+public class DefaultViewUpdater implements CardSliderLayoutManager.ViewUpdater,
+        CardSliderLayoutManager.BatchViewUpdater {
 
-    public static final float SCALE_LEFT = 0.65f;
-    public static final float SCALE_CENTER = 0.95f;
-    public static final float SCALE_RIGHT = 0.8f;
-    public static final float SCALE_CENTER_TO_LEFT = SCALE_CENTER - SCALE_LEFT;
-    public static final float SCALE_CENTER_TO_RIGHT = SCALE_CENTER - SCALE_RIGHT;
+    public static final float SCALE_LEFT = CardGeometry.SCALE_LEFT;
+    public static final float SCALE_CENTER = CardGeometry.SCALE_CENTER;
+    public static final float SCALE_RIGHT = CardGeometry.SCALE_RIGHT;
+    public static final float SCALE_CENTER_TO_LEFT = CardGeometry.SCALE_CENTER_TO_LEFT;
+    public static final float SCALE_CENTER_TO_RIGHT = CardGeometry.SCALE_CENTER_TO_RIGHT;
 
-    public static final int Z_CENTER_1 = 12;
-    public static final int Z_CENTER_2 = 16;
-    public static final int Z_RIGHT = 8;
+    public static final int Z_CENTER_1 = CardGeometry.Z_CENTER_1;
+    public static final int Z_CENTER_2 = CardGeometry.Z_CENTER_2;
+    public static final int Z_RIGHT = CardGeometry.Z_RIGHT;
 
-    private int cardWidth;
-    private int activeCardLeft;
-    private int activeCardRight;
-    private int activeCardCenter;
-    private float cardsGap;
+    /**
+     * Stacked cards are dimmed by card alpha.
+     */
+    public static final int DIM_MODE_ALPHA = 0;
 
-    private int transitionEnd;
-    private int transitionDistance;
-    private float transitionRight2Center;
+    /**
+     * Stacked cards implementing {@link CardSliderLayoutManager.DimmableCard DimmableCard} are dimmed
+     * by the card itself, other cards by alpha.
+     */
+    public static final int DIM_MODE_OVERLAY = 1;
+
+    private int dimMode = DIM_MODE_ALPHA;
 
     private CardSliderLayoutManager lm;
+    private CardGeometry geometry;
+
+    private boolean inBatch;
+    private int batchLeft;
 
-    private View previewView;
+    private boolean hasPrevious;
+    private int prevRight;
+    private float prevScale;
+    private float prevTranslationX;
 
     @Override
     public void onLayoutManagerInitialized(@NonNull CardSliderLayoutManager lm) {
         this.lm = lm;
+        this.geometry = lm.getGeometry();
+    }
 
-        this.cardWidth = lm.getCardWidth();
-        this.activeCardLeft = lm.getActiveCardLeft();
-        this.activeCardRight = lm.getActiveCardRight();
-        this.activeCardCenter = lm.getActiveCardCenter();
-        this.cardsGap = lm.getCardsGap();
-
-        this.transitionEnd = activeCardCenter;
-        this.transitionDistance = activeCardRight - transitionEnd;
-
-        final float centerBorder = (cardWidth - cardWidth * SCALE_CENTER) / 2f;
-        final float rightBorder = (cardWidth - cardWidth * SCALE_RIGHT) / 2f;
-        final float right2centerDistance = (activeCardRight + centerBorder) - (activeCardRight - rightBorder);
-        this.transitionRight2Center = right2centerDistance - cardsGap;
+    @Override
+    public void updateViews(@NonNull View[] views, @NonNull int[] lefts, @NonNull float[] positions, int count) {
+        hasPrevious = false;
+        inBatch = true;
+        try {
+            for (int i = 0; i < count; i++) {
+                batchLeft = lefts[i];
+                updateView(views[i], positions[i]);
+            }
+        } finally {
+            inBatch = false;
+        }
     }
 
     @Override
     public void updateView(@NonNull View view, float position) {
-        final float scale;
-        final float alpha;
-        final float z;
+        if (!inBatch) {
+            // Previous card of a batch is not the left neighbour of this card
+            hasPrevious = false;
+        }
+
+        final int viewLeft = inBatch ? batchLeft : lm.getDecoratedLeft(view);
+
+        final float scale = geometry.getScale(viewLeft);
+        // Stacked card alpha exceeds 1 while the card moves from the active place into the stack
+        final float alpha = Math.max(0f, Math.min(1f, geometry.getAlpha(viewLeft)));
+        final float z = geometry.getZ(viewLeft);
         final float x;
 
-        if (position < 0) {
-            final float ratio = (float) lm.getDecoratedLeft(view) / activeCardLeft;
-            scale = SCALE_LEFT + SCALE_CENTER_TO_LEFT * ratio;
-            alpha = 0.1f + ratio;
-            z = Z_CENTER_1 * ratio;
-            x = 0;
-        } else if (position < 0.5f) {
-            scale = SCALE_CENTER;
-            alpha = 1;
-            z = Z_CENTER_1;
+        if (position < 1f) {
+            x = geometry.getTranslationX(viewLeft);
+        } else if (hasPrevious) {
+            x = geometry.getRightCardTranslationX(viewLeft, prevRight, prevScale, prevTranslationX);
+        } else {
             x = 0;
-        } else if (position < 1f) {
-            final int viewLeft = lm.getDecoratedLeft(view);
-            final float ratio = (float) (viewLeft - activeCardCenter) / (activeCardRight - activeCardCenter);
-            scale = SCALE_CENTER - SCALE_CENTER_TO_RIGHT * ratio;
-            alpha = 1;
-            z = Z_CENTER_2;
-            if (Math.abs(transitionRight2Center) < Math.abs(transitionRight2Center * (viewLeft - transitionEnd) / transitionDistance)) {
-                x = -transitionRight2Center;
-            } else {
-                x = -transitionRight2Center * (viewLeft - transitionEnd) / transitionDistance;
-            }
+        }
+
+        final CardTransform transform = lm.getCardTransform(view);
+        transform.setScale(scale);
+        transform.setZ(z);
+        transform.setTranslationX(x);
+
+        final CardSliderLayoutManager.DimmableCard dimmableCard = lm.getDimmableCard(view);
+        if (dimmableCard == null) {
+            transform.setAlpha(alpha);
+        } else if (dimMode == DIM_MODE_OVERLAY) {
+            transform.setAlpha(1f);
+            transform.setDim(1f - alpha);
         } else {
-            scale = SCALE_RIGHT;
-            alpha = 1;
-            z = Z_RIGHT;
-
-            if (previewView != null) {
-                final float prevViewScale;
-                final float prevTransition;
-                final int prevRight;
-
-                final boolean isFirstRight = lm.getDecoratedRight(previewView) <= activeCardRight;
-                if (isFirstRight) {
-                    prevViewScale = SCALE_CENTER;
-                    prevRight = activeCardRight;
-                    prevTransition = 0;
-                } else {
-                    prevViewScale = ViewCompat.getScaleX(previewView);
-                    prevRight = lm.getDecoratedRight(previewView);
-                    prevTransition = ViewCompat.getTranslationX(previewView);
-                }
-
-                final float prevBorder = (cardWidth - cardWidth * prevViewScale) / 2;
-                final float currentBorder = (cardWidth - cardWidth * SCALE_RIGHT) / 2;
-                final float distance = (lm.getDecoratedLeft(view) + currentBorder) - (prevRight - prevBorder + prevTransition);
-
-                final float transition = distance - cardsGap;
-                x = -transition;
-            } else {
-                x = 0;
-            }
+            transform.setAlpha(alpha);
+            transform.setDim(0f);
         }
 
-        ViewCompat.setScaleX(view, scale);
-        ViewCompat.setScaleY(view, scale);
-        ViewCompat.setZ(view, z);
-        ViewCompat.setTranslationX(view, x);
-        ViewCompat.setAlpha(view, alpha);
+        hasPrevious = true;
+        prevRight = viewLeft + lm.getCardWidth();
+        prevScale = scale;
+        prevTranslationX = x;
+    }
 
-        previewView = view;
+    public int getDimMode() {
+        return dimMode;
+    }
+
+    /**
+     * @param dimMode   {@link #DIM_MODE_ALPHA} or {@link #DIM_MODE_OVERLAY}. Default value is {@link #DIM_MODE_ALPHA}.
+     */
+    public void setDimMode(int dimMode) {
+        if (dimMode != DIM_MODE_ALPHA && dimMode != DIM_MODE_OVERLAY) {
+            throw new IllegalArgumentException("Unknown dim mode: " + dimMode);
+        }
+        this.dimMode = dimMode;
     }
 
     protected CardSliderLayoutManager getLayoutManager() {
         return lm;
     }
 
+    /**
+     * @return Card positioning and transition math of the layout manager.
+     */
+    protected CardGeometry getGeometry() {
+        return geometry;
+    }
+
 }
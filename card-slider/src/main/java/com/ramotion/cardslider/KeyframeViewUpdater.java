@@ -0,0 +1,274 @@
+package com.ramotion.cardslider;
+
+import android.animation.TimeInterpolator;
+import android.view.View;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * {@link CardSliderLayoutManager.ViewUpdater} driven by keyframes of card scale, alpha, z and translationX
+ * against card position (see {@link CardSliderLayoutManager.ViewUpdater#updateView}).
+ *
+ * Keyframes are compiled once, in {@link #onLayoutManagerInitialized}, into a lookup table quantized by
+ * {@link Builder#samplesPerCard}, so per card per frame cost is a table lookup and linear interpolation,
+ * regardless of keyframe count and interpolators.
+ *
+ * Values are written into {@link CardSliderLayoutManager#getCardTransform card transform record}.
+ * Properties without keyframes are not touched. Positions outside of keyframes range use the nearest
+ * keyframe value. To use from XML "viewUpdater" attribute, create a subclass with a public no-arg constructor,
+ * which passes a configured {@link Builder} to {@link #KeyframeViewUpdater(Builder)}.
+ */
+public class KeyframeViewUpdater implements CardSliderLayoutManager.ViewUpdater {
+
+    public static final int DEFAULT_SAMPLES_PER_CARD = 64;
+
+    static final int PROPERTY_SCALE = 0;
+    static final int PROPERTY_ALPHA = 1;
+    static final int PROPERTY_Z = 2;
+    static final int PROPERTY_TRANSLATION_X = 3;
+    static final int PROPERTY_COUNT = 4;
+
+    private final Keyframe[][] keyframes;
+    private final int samplesPerCard;
+    private final float minPosition;
+    private final float maxPosition;
+
+    private float[] table;
+    private int sampleCount;
+
+    private CardSliderLayoutManager lm;
+
+    private static class Keyframe {
+        final float position;
+        final float value;
+        final TimeInterpolator interpolator;
+
+        Keyframe(float position, float value, @Nullable TimeInterpolator interpolator) {
+            this.position = position;
+            this.value = value;
+            this.interpolator = interpolator;
+        }
+    }
+
+    /**
+     * Builder of {@link KeyframeViewUpdater}.
+     * Interpolator of a keyframe is applied to the segment from the previous keyframe to this keyframe.
+     */
+    public static class Builder {
+
+        private final List<List<Keyframe>> keyframes = new ArrayList<>(PROPERTY_COUNT);
+        private int samplesPerCard = DEFAULT_SAMPLES_PER_CARD;
+
+        public Builder() {
+            for (int i = 0; i < PROPERTY_COUNT; i++) {
+                keyframes.add(new ArrayList<Keyframe>());
+            }
+        }
+
+        public Builder scale(float position, float scale) {
+            return scale(position, scale, null);
+        }
+
+        public Builder scale(float position, float scale, @Nullable TimeInterpolator interpolator) {
+            return add(PROPERTY_SCALE, position, scale, interpolator);
+        }
+
+        public Builder alpha(float position, float alpha) {
+            return alpha(position, alpha, null);
+        }
+
+        public Builder alpha(float position, float alpha, @Nullable TimeInterpolator interpolator) {
+            return add(PROPERTY_ALPHA, position, alpha, interpolator);
+        }
+
+        public Builder z(float position, float z) {
+            return z(position, z, null);
+        }
+
+        public Builder z(float position, float z, @Nullable TimeInterpolator interpolator) {
+            return add(PROPERTY_Z, position, z, interpolator);
+        }
+
+        /**
+         * @param translationX  Translation in card widths.
+         */
+        public Builder translationX(float position, float translationX) {
+            return translationX(position, translationX, null);
+        }
+
+        /**
+         * @param translationX  Translation in card widths.
+         */
+        public Builder translationX(float position, float translationX, @Nullable TimeInterpolator interpolator) {
+            return add(PROPERTY_TRANSLATION_X, position, translationX, interpolator);
+        }
+
+        /**
+         * @param samplesPerCard    Lookup table resolution, number of samples per one card width of position.
+         *                          Default value is {@link #DEFAULT_SAMPLES_PER_CARD}.
+         */
+        public Builder samplesPerCard(int samplesPerCard) {
+            if (samplesPerCard <= 0) {
+                throw new IllegalArgumentException("Samples per card must be positive");
+            }
+            this.samplesPerCard = samplesPerCard;
+            return this;
+        }
+
+        public KeyframeViewUpdater build() {
+            return new KeyframeViewUpdater(this);
+        }
+
+        private Builder add(int property, float position, float value, @Nullable TimeInterpolator interpolator) {
+            keyframes.get(property).add(new Keyframe(position, value, interpolator));
+            return this;
+        }
+    }
+
+    protected KeyframeViewUpdater(@NonNull Builder builder) {
+        final Comparator<Keyframe> comparator = new Comparator<Keyframe>() {
+            @Override
+            public int compare(Keyframe k1, Keyframe k2) {
+                return Float.compare(k1.position, k2.position);
+            }
+        };
+
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+
+        keyframes = new Keyframe[PROPERTY_COUNT][];
+        for (int i = 0; i < PROPERTY_COUNT; i++) {
+            final List<Keyframe> list = new ArrayList<>(builder.keyframes.get(i));
+            Collections.sort(list, comparator);
+            keyframes[i] = list.toArray(new Keyframe[list.size()]);
+
+            if (!list.isEmpty()) {
+                min = Math.min(min, list.get(0).position);
+                max = Math.max(max, list.get(list.size() - 1).position);
+            }
+        }
+
+        if (min > max) {
+            throw new IllegalArgumentException("At least one keyframe required");
+        }
+
+        this.samplesPerCard = builder.samplesPerCard;
+        this.minPosition = min;
+        this.maxPosition = max;
+    }
+
+    @Override
+    public void onLayoutManagerInitialized(@NonNull CardSliderLayoutManager lm) {
+        this.lm = lm;
+        compile(lm.getCardWidth());
+    }
+
+    @Override
+    public void updateView(@NonNull View view, float position) {
+        final float sample = Math.max(0, (position - minPosition) * samplesPerCard);
+        final int last = sampleCount - 1;
+
+        final int index;
+        final float fraction;
+        if (sample >= last) {
+            index = last;
+            fraction = 0;
+        } else {
+            index = (int) sample;
+            fraction = sample - index;
+        }
+
+        final int offset = index * PROPERTY_COUNT;
+        final int nextOffset = index < last ? offset + PROPERTY_COUNT : offset;
+
+        final CardTransform transform = lm.getCardTransform(view);
+        if (keyframes[PROPERTY_SCALE].length != 0) {
+            transform.setScale(lerp(offset, nextOffset, PROPERTY_SCALE, fraction));
+        }
+        if (keyframes[PROPERTY_ALPHA].length != 0) {
+            transform.setAlpha(lerp(offset, nextOffset, PROPERTY_ALPHA, fraction));
+        }
+        if (keyframes[PROPERTY_Z].length != 0) {
+            transform.setZ(lerp(offset, nextOffset, PROPERTY_Z, fraction));
+        }
+        if (keyframes[PROPERTY_TRANSLATION_X].length != 0) {
+            transform.setTranslationX(lerp(offset, nextOffset, PROPERTY_TRANSLATION_X, fraction));
+        }
+    }
+
+    protected CardSliderLayoutManager getLayoutManager() {
+        return lm;
+    }
+
+    /**
+     * Builds lookup table. Translation keyframes are converted from card widths to pixels.
+     */
+    void compile(int cardWidth) {
+        sampleCount = (int) Math.ceil((maxPosition - minPosition) * samplesPerCard) + 1;
+        table = new float[sampleCount * PROPERTY_COUNT];
+
+        for (int property = 0; property < PROPERTY_COUNT; property++) {
+            final Keyframe[] frames = keyframes[property];
+            if (frames.length == 0) {
+                continue;
+            }
+
+            final float multiplier = property == PROPERTY_TRANSLATION_X ? cardWidth : 1f;
+            for (int i = 0; i < sampleCount; i++) {
+                final float position = minPosition + (float) i / samplesPerCard;
+                table[i * PROPERTY_COUNT + property] = evaluate(frames, position) * multiplier;
+            }
+        }
+    }
+
+    /**
+     * @return Value of property at position, as applied by {@link #updateView}.
+     */
+    float getValue(int property, float position) {
+        final float sample = Math.max(0, (position - minPosition) * samplesPerCard);
+        final int last = sampleCount - 1;
+        if (sample >= last) {
+            return table[last * PROPERTY_COUNT + property];
+        }
+
+        final int index = (int) sample;
+        final int offset = index * PROPERTY_COUNT;
+        return lerp(offset, offset + PROPERTY_COUNT, property, sample - index);
+    }
+
+    private float lerp(int offset, int nextOffset, int property, float fraction) {
+        final float from = table[offset + property];
+        final float to = table[nextOffset + property];
+        return from + (to - from) * fraction;
+    }
+
+    private static float evaluate(Keyframe[] frames, float position) {
+        if (position <= frames[0].position) {
+            return frames[0].value;
+        }
+
+        for (int i = 1; i < frames.length; i++) {
+            final Keyframe to = frames[i];
+            if (position <= to.position) {
+                final Keyframe from = frames[i - 1];
+                final float range = to.position - from.position;
+
+                float fraction = range == 0 ? 1f : (position - from.position) / range;
+                if (to.interpolator != null) {
+                    fraction = to.interpolator.getInterpolation(fraction);
+                }
+
+                return from.value + (to.value - from.value) * fraction;
+            }
+        }
+
+        return frames[frames.length - 1].value;
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.ramotion.cardslider;
+
+/**
+ * Metrics of one layout or scroll pass of {@link CardSliderLayoutManager}.
+ * The instance is reused between passes, copy values if they are needed later.
+ *
+ * See {@link CardSliderLayoutManager#setOnLayoutMetricsListener}
+ */
+public class LayoutMetrics {
+
+    public static final int PASS_LAYOUT = 0;
+    public static final int PASS_SCROLL = 1;
+
+    int pass;
+    int scrollDelta;
+
+    long fillTime;
+    long updateViewScaleTime;
+    long viewUpdaterTime;
+
+    int createdCount;
+    int reusedCount;
+    int positionChangedCount;
+    int recycledCount;
+    int attachedCount;
+
+    /**
+     * @return {@link #PASS_LAYOUT} or {@link #PASS_SCROLL}.
+     */
+    public int getPass() {
+        return pass;
+    }
+
+    /**
+     * @return Consumed scroll distance in pixels of a scroll pass.
+     */
+    public int getScrollDelta() {
+        return scrollDelta;
+    }
+
+    /**
+     * @return Time spent attaching and recycling cards, in nanoseconds.
+     */
+    public long getFillTime() {
+        return fillTime;
+    }
+
+    /**
+     * @return Time spent updating card transforms, including {@link #getViewUpdaterTime()}, in nanoseconds.
+     */
+    public long getUpdateViewScaleTime() {
+        return updateViewScaleTime;
+    }
+
+    /**
+     * @return Time spent in the view updater, in nanoseconds.
+     */
+    public long getViewUpdaterTime() {
+        return viewUpdaterTime;
+    }
+
+    /**
+     * @return Number of attached cards, which were never attached before: created by this pass or by prefetch.
+     */
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * @return Number of attached cards, which were attached before and reused from the Recycler.
+     */
+    public int getReusedCount() {
+        return reusedCount;
+    }
+
+    /**
+     * @return Number of reused cards, which were attached at another adapter position than last time.
+     *         Such cards were bound again, so this is a lower bound on binds of the pass: it does not count
+     *         cards bound again at the same position, e.g. taken from the pool or changed by the adapter.
+     *         Reused cards attached at the same position without a bind, e.g. from the scrap, are not counted.
+     */
+    public int getPositionChangedCount() {
+        return positionChangedCount;
+    }
+
+    /**
+     * @return Number of cards recycled by the layout manager.
+     */
+    public int getRecycledCount() {
+        return recycledCount;
+    }
+
+    /**
+     * @return Number of attached cards after the pass.
+     */
+    public int getAttachedCount() {
+        return attachedCount;
+    }
+
+    void reset(int pass) {
+        this.pass = pass;
+        scrollDelta = 0;
+        fillTime = 0;
+        updateViewScaleTime = 0;
+        viewUpdaterTime = 0;
+        createdCount = 0;
+        reusedCount = 0;
+        positionChangedCount = 0;
+        recycledCount = 0;
+        attachedCount = 0;
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.ramotion.cardslider;
+
+import android.app.Activity;
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.InstrumentationRegistry;
+
+/**
+ * RecyclerView with {@link CardSliderLayoutManager} and plain cards of fixed size,
+ * shared by instrumentation tests and benchmarks.
+ * The slider is measured and laid out manually, so results do not depend on vsync.
+ * Must be created and used on the main thread, see {@link #runOnMainSync}.
+ */
+public class CardSliderFixture {
+
+    public static final int WIDTH = 1080;
+    public static final int HEIGHT = 600;
+
+    public final RecyclerView recyclerView;
+    public final CardSliderLayoutManager layoutManager;
+    public final CardAdapter adapter;
+
+    public CardSliderFixture(@NonNull Context context, int itemCount) {
+        layoutManager = new CardSliderLayoutManager(context);
+        adapter = new CardAdapter(itemCount);
+        recyclerView = new RecyclerView(context);
+        recyclerView.setLayoutManager(layoutManager);
+        recyclerView.setAdapter(adapter);
+    }
+
+    /**
+     * Attaches the slider to the window of the activity, so paths which depend on the attached
+     * RecyclerView, e.g. pool sizing, hardware layers and drawing order, run as in an app.
+     */
+    public void attachTo(@NonNull Activity activity) {
+        final FrameLayout root = new FrameLayout(activity);
+        root.addView(recyclerView, new FrameLayout.LayoutParams(WIDTH, HEIGHT));
+        activity.setContentView(root);
+    }
+
+    public void layout() {
+        recyclerView.measure(
+                View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        recyclerView.layout(0, 0, WIDTH, HEIGHT);
+    }
+
+    /**
+     * Runs the per-frame card update of the layout manager: the view updater batch and commit
+     * of card transforms to card Views.
+     *
+     * @param forceCommit   {@code true} to write all transform properties, not only changed ones.
+     */
+    public void updateCards(boolean forceCommit) {
+        layoutManager.updateViewScale(forceCommit);
+    }
+
+    public static void runOnMainSync(@NonNull Runnable runnable) {
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(runnable);
+    }
+
+    /**
+     * Card, which dims itself, so overlay dim path of {@link DefaultViewUpdater} can be exercised.
+     */
+    public static class Card extends View implements CardSliderLayoutManager.DimmableCard {
+
+        private float dim;
+
+        public Card(@NonNull Context context) {
+            super(context);
+        }
+
+        @Override
+        public void setDim(float dim) {
+            this.dim = dim;
+        }
+
+        public float getDim() {
+            return dim;
+        }
+
+    }
+
+    public static class CardAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+
+        private int itemCount;
+
+        CardAdapter(int itemCount) {
+            this.itemCount = itemCount;
+        }
+
+        /**
+         * Changes item count without notifying, call one of notify methods after.
+         */
+        public void setItemCount(int itemCount) {
+            this.itemCount = itemCount;
+        }
+
+        @NonNull
+        @Override
+        public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            final View view = new Card(parent.getContext());
+            view.setLayoutParams(new RecyclerView.LayoutParams(
+                    RecyclerView.LayoutParams.MATCH_PARENT, HEIGHT));
+            return new RecyclerView.ViewHolder(view) {};
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
+        }
+
+        @Override
+        public int getItemCount() {
+            return itemCount;
+        }
+
+    }
+
+}
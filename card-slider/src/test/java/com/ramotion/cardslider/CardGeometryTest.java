@@ -0,0 +1,103 @@
+package com.ramotion.cardslider;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CardGeometryTest {
+
+    private static final float DELTA = 1e-4f;
+
+    private static final int ACTIVE_CARD_LEFT = 100;
+    private static final int CARD_WIDTH = 300;
+    private static final float CARDS_GAP = 24;
+
+    private final CardGeometry geometry = new CardGeometry(ACTIVE_CARD_LEFT, CARD_WIDTH, CARDS_GAP, 2);
+
+    @Test
+    public void borders() {
+        assertEquals(400, geometry.getActiveCardRight());
+        assertEquals(250, geometry.getActiveCardCenter());
+        assertEquals(50, geometry.getStackStep());
+    }
+
+    @Test
+    public void cardLeft() {
+        assertEquals(-50, geometry.getCardLeft(-4));
+        assertEquals(-50, geometry.getCardLeft(-3));
+        assertEquals(0, geometry.getCardLeft(-2));
+        assertEquals(50, geometry.getCardLeft(-1));
+        assertEquals(100, geometry.getCardLeft(0));
+        assertEquals(400, geometry.getCardLeft(1));
+        assertEquals(700, geometry.getCardLeft(2));
+    }
+
+    @Test
+    public void scrolledCardLeft() {
+        assertEquals(100, geometry.getCardLeft(0, 0));
+        assertEquals(75, geometry.getCardLeft(0, 150));
+        assertEquals(250, geometry.getCardLeft(1, 150));
+        assertEquals(550, geometry.getCardLeft(2, 150));
+        assertEquals(25, geometry.getCardLeft(-1, 150));
+        assertEquals(-25, geometry.getCardLeft(-2, 150));
+        assertEquals(-50, geometry.getCardLeft(-3, 150));
+    }
+
+    @Test
+    public void anchorOffset() {
+        assertEquals(0, geometry.getAnchorOffset(100));
+        assertEquals(150, geometry.getAnchorOffset(75));
+        assertEquals(CARD_WIDTH - 1, geometry.getAnchorOffset(50));
+
+        for (int offset = 0; offset < CARD_WIDTH; offset += 6) {
+            final int left = geometry.getCardLeft(0, offset);
+            assertEquals(left, geometry.getCardLeft(0, geometry.getAnchorOffset(left)));
+        }
+    }
+
+    @Test
+    public void maxAttachedCardCount() {
+        assertEquals(9, geometry.getMaxAttachedCardCount(1080));
+        assertEquals(6, geometry.getMaxAttachedCardCount(400));
+        assertEquals(5, geometry.getMaxAttachedCardCount(0));
+    }
+
+    @Test
+    public void activeCardTransform() {
+        assertEquals(CardGeometry.SCALE_CENTER, geometry.getScale(ACTIVE_CARD_LEFT), DELTA);
+        assertEquals(1f, geometry.getAlpha(ACTIVE_CARD_LEFT), DELTA);
+        assertEquals(CardGeometry.Z_CENTER_1, geometry.getZ(ACTIVE_CARD_LEFT), DELTA);
+        assertEquals(0f, geometry.getTranslationX(ACTIVE_CARD_LEFT), DELTA);
+    }
+
+    @Test
+    public void stackedCardTransform() {
+        assertEquals(CardGeometry.SCALE_LEFT, geometry.getScale(0), DELTA);
+        assertEquals(0.1f, geometry.getAlpha(0), DELTA);
+        assertEquals(0f, geometry.getZ(0), DELTA);
+
+        final float scale = CardGeometry.SCALE_LEFT + CardGeometry.SCALE_CENTER_TO_LEFT * 0.5f;
+        assertEquals(scale, geometry.getScale(50), DELTA);
+        assertEquals(0.6f, geometry.getAlpha(50), DELTA);
+        assertEquals(CardGeometry.Z_CENTER_1 * 0.5f, geometry.getZ(50), DELTA);
+    }
+
+    @Test
+    public void transitionToActive() {
+        final float scale = CardGeometry.SCALE_CENTER - CardGeometry.SCALE_CENTER_TO_RIGHT * 0.5f;
+        assertEquals(scale, geometry.getScale(325), DELTA);
+        assertEquals(CardGeometry.Z_CENTER_2, geometry.getZ(325), DELTA);
+        assertTrue(geometry.getTranslationX(325) != 0);
+        assertEquals(0f, geometry.getTranslationX(400), DELTA);
+    }
+
+    @Test
+    public void rightCardKeepsGap() {
+        // Previous card is active: distance between scaled edges must be equal to cards gap
+        final float x = geometry.getRightCardTranslationX(400, 400, 0, 0);
+        final float activeRight = 400 - CARD_WIDTH * (1 - CardGeometry.SCALE_CENTER) / 2;
+        final float left = 400 + CARD_WIDTH * (1 - CardGeometry.SCALE_RIGHT) / 2 + x;
+        assertEquals(CARDS_GAP, left - activeRight, DELTA);
+    }
+
+}
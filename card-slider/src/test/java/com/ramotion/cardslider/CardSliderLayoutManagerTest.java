@@ -0,0 +1,33 @@
+package com.ramotion.cardslider;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CardSliderLayoutManagerTest {
+
+    @Test
+    public void positionAfterRemove() {
+        // Removed before the card
+        assertEquals(3, CardSliderLayoutManager.getPositionAfterRemove(5, 0, 2));
+        // Removed after the card
+        assertEquals(5, CardSliderLayoutManager.getPositionAfterRemove(5, 6, 2));
+        // Card removed, the next card takes its place
+        assertEquals(4, CardSliderLayoutManager.getPositionAfterRemove(5, 4, 3));
+        assertEquals(5, CardSliderLayoutManager.getPositionAfterRemove(5, 5, 1));
+    }
+
+    @Test
+    public void positionAfterMove() {
+        // Moved across the card to the right
+        assertEquals(4, CardSliderLayoutManager.getPositionAfterMove(5, 2, 7, 1));
+        assertEquals(4, CardSliderLayoutManager.getPositionAfterMove(5, 2, 5, 1));
+        // Moved across the card to the left
+        assertEquals(6, CardSliderLayoutManager.getPositionAfterMove(5, 8, 1, 1));
+        assertEquals(6, CardSliderLayoutManager.getPositionAfterMove(5, 8, 5, 1));
+        // Moved at one side of the card
+        assertEquals(5, CardSliderLayoutManager.getPositionAfterMove(5, 1, 3, 1));
+        assertEquals(5, CardSliderLayoutManager.getPositionAfterMove(5, 9, 6, 1));
+    }
+
+}
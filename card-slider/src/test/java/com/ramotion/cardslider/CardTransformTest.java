@@ -0,0 +1,46 @@
+package com.ramotion.cardslider;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CardTransformTest {
+
+    @Test
+    public void commitsWrittenPropertiesOnly() {
+        final CardTransform transform = new CardTransform();
+        transform.setAlpha(0.5f);
+
+        assertTrue(transform.isWritten(CardTransform.ALPHA));
+        assertFalse(transform.isWritten(CardTransform.SCALE_X));
+        assertTrue(transform.commit(CardTransform.ALPHA));
+        assertFalse(transform.isWritten(CardTransform.ALPHA));
+    }
+
+    @Test
+    public void skipsUnchangedValues() {
+        final CardTransform transform = new CardTransform();
+        transform.setScale(0.8f);
+        assertTrue(transform.commit(CardTransform.SCALE_X));
+        assertTrue(transform.commit(CardTransform.SCALE_Y));
+
+        transform.setScale(0.8f);
+        assertFalse(transform.commit(CardTransform.SCALE_X));
+        assertFalse(transform.commit(CardTransform.SCALE_Y));
+
+        transform.setScaleX(0.9f);
+        assertTrue(transform.commit(CardTransform.SCALE_X));
+    }
+
+    @Test
+    public void invalidateForcesWrite() {
+        final CardTransform transform = new CardTransform();
+        transform.setZ(12);
+        assertTrue(transform.commit(CardTransform.Z));
+
+        transform.invalidate();
+        transform.setZ(12);
+        assertTrue(transform.commit(CardTransform.Z));
+    }
+
+}
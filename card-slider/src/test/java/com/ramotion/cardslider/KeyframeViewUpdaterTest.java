@@ -0,0 +1,71 @@
+package com.ramotion.cardslider;
+
+import org.junit.Test;
+
+import static com.ramotion.cardslider.KeyframeViewUpdater.PROPERTY_ALPHA;
+import static com.ramotion.cardslider.KeyframeViewUpdater.PROPERTY_SCALE;
+import static com.ramotion.cardslider.KeyframeViewUpdater.PROPERTY_TRANSLATION_X;
+import static org.junit.Assert.*;
+
+public class KeyframeViewUpdaterTest {
+
+    private static final float DELTA = 1e-3f;
+
+    @Test
+    public void interpolatesBetweenKeyframes() {
+        final KeyframeViewUpdater updater = new KeyframeViewUpdater.Builder()
+                .scale(-1, 0.5f)
+                .scale(0, 1f)
+                .scale(1, 0.8f)
+                .build();
+        updater.compile(300);
+
+        assertEquals(0.5f, updater.getValue(PROPERTY_SCALE, -1), DELTA);
+        assertEquals(0.75f, updater.getValue(PROPERTY_SCALE, -0.5f), DELTA);
+        assertEquals(1f, updater.getValue(PROPERTY_SCALE, 0), DELTA);
+        assertEquals(0.9f, updater.getValue(PROPERTY_SCALE, 0.5f), DELTA);
+        assertEquals(0.8f, updater.getValue(PROPERTY_SCALE, 1), DELTA);
+    }
+
+    @Test
+    public void clampsOutsideOfRange() {
+        final KeyframeViewUpdater updater = new KeyframeViewUpdater.Builder()
+                .alpha(-2, 0.1f)
+                .alpha(0, 1f)
+                .build();
+        updater.compile(300);
+
+        assertEquals(0.1f, updater.getValue(PROPERTY_ALPHA, -10), DELTA);
+        assertEquals(1f, updater.getValue(PROPERTY_ALPHA, 10), DELTA);
+    }
+
+    @Test
+    public void translationInCardWidths() {
+        final KeyframeViewUpdater updater = new KeyframeViewUpdater.Builder()
+                .translationX(0, 0)
+                .translationX(1, -0.1f)
+                .build();
+        updater.compile(300);
+
+        assertEquals(-15f, updater.getValue(PROPERTY_TRANSLATION_X, 0.5f), DELTA);
+        assertEquals(-30f, updater.getValue(PROPERTY_TRANSLATION_X, 1), DELTA);
+    }
+
+    @Test
+    public void unorderedKeyframes() {
+        final KeyframeViewUpdater updater = new KeyframeViewUpdater.Builder()
+                .scale(1, 0.8f)
+                .scale(0, 1f)
+                .samplesPerCard(4)
+                .build();
+        updater.compile(300);
+
+        assertEquals(0.9f, updater.getValue(PROPERTY_SCALE, 0.5f), DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void requiresKeyframes() {
+        new KeyframeViewUpdater.Builder().build();
+    }
+
+}
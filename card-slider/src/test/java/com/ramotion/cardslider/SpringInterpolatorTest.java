@@ -0,0 +1,61 @@
+package com.ramotion.cardslider;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SpringInterpolatorTest {
+
+    private static final float DELTA = 1e-4f;
+    private static final float FRAME_60 = 1f / 60;
+    private static final float FRAME_120 = 1f / 120;
+
+    private final CardScroller.SpringInterpolator spring =
+            new CardScroller.SpringInterpolator(CardScroller.DEFAULT_STIFFNESS);
+
+    @Test
+    public void startsAtZeroAndEndsAtOne() {
+        spring.setup(400, 0, FRAME_60, 0.1f, 0.6f);
+        assertEquals(0f, spring.getInterpolation(0), DELTA);
+        assertEquals(1f, spring.getInterpolation(1), DELTA);
+    }
+
+    @Test
+    public void monotonic() {
+        spring.setup(400, 100000, FRAME_60, 0.1f, 0.6f);
+
+        float prev = 0;
+        for (int i = 1; i <= 100; i++) {
+            final float value = spring.getInterpolation(i / 100f);
+            assertTrue(value >= prev);
+            assertTrue(value <= 1f + DELTA);
+            prev = value;
+        }
+    }
+
+    @Test
+    public void durationIsWholeFrames() {
+        final int duration60 = spring.setup(400, 0, FRAME_60, 0.1f, 0.6f);
+        final int frames60 = Math.round(duration60 / 1000f / FRAME_60);
+        assertEquals(duration60, Math.round(frames60 * FRAME_60 * 1000));
+
+        final int duration120 = spring.setup(400, 0, FRAME_120, 0.1f, 0.6f);
+        final int frames120 = Math.round(duration120 / 1000f / FRAME_120);
+        assertEquals(duration120, Math.round(frames120 * FRAME_120 * 1000));
+        assertTrue(Math.abs(duration60 - duration120) <= 1000 / 60);
+    }
+
+    @Test
+    public void durationBounds() {
+        assertEquals(100, spring.setup(1, 0, FRAME_60, 0.1f, 0.6f));
+        assertEquals(600, spring.setup(1e9f, 0, FRAME_60, 0.1f, 0.6f));
+    }
+
+    @Test
+    public void velocityShortensScroll() {
+        final int rest = spring.setup(1000, 0, FRAME_60, 0.01f, 2f);
+        final int fling = spring.setup(1000, 20000, FRAME_60, 0.01f, 2f);
+        assertTrue(fling < rest);
+    }
+
+}